@@ -0,0 +1,103 @@
+package com.uddernetworks.config.benchmarks;
+
+import com.uddernetworks.config.Config;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures updating annotation-bound fields, both all at once and through reloads and sets only changing some of them
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FieldSyncBenchmark {
+
+    @Param({"1", "10"})
+    public int instances;
+
+    private List<SyncedFields> registered = new ArrayList<>();
+    private File folder;
+    private Config config;
+    private File file;
+    private String[] contents;
+    private int counter;
+
+    @Setup
+    public void setup() {
+        for (int i = 0; i < instances; i++) {
+            SyncedFields fields = new SyncedFields();
+            Config.registerAnnotatedClass(fields);
+            registered.add(fields);
+        }
+
+        folder = Fixtures.createFolder();
+        contents = new String[] {Fixtures.syncedYaml(0), Fixtures.syncedYaml(1)};
+        file = Fixtures.write(folder, "synced.yml", contents[0]);
+
+        config = new Config("synced.yml", folder);
+        config.initialize(this);
+    }
+
+    @TearDown
+    public void tearDown() {
+        config.close();
+        registered.forEach(Config::unregisterAnnotatedClass);
+        registered.clear();
+        Fixtures.delete(folder);
+    }
+
+    /**
+     * Changes every synced value in the config file before each reload, so writing the file isn't measured with it
+     */
+    @State(Scope.Benchmark)
+    public static class ChangedFile {
+
+        private int counter;
+
+        @Setup(Level.Invocation)
+        public void change(FieldSyncBenchmark benchmark) {
+            counter++;
+            Fixtures.write(benchmark.file.getParentFile(), benchmark.file.getName(), benchmark.contents[counter % 2]);
+        }
+    }
+
+    @Benchmark
+    public void updateAllFields() {
+        config.updateAllFields();
+    }
+
+    @Benchmark
+    public void setBoundPath() {
+        counter++;
+        config.set("fields.field" + (counter % Fixtures.SYNCED_FIELDS / 4 * 4), counter);
+    }
+
+    @Benchmark
+    public void reloadUnchanged() {
+        config.reloadConfig();
+    }
+
+    @Benchmark
+    public void reloadAllChanged(ChangedFile changed) {
+        config.reloadConfig();
+    }
+}
@@ -0,0 +1,210 @@
+package com.uddernetworks.config.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generates the YAML files used by the benchmarks
+ */
+public class Fixtures {
+
+    /**
+     * The sizes of config files the benchmarks run against
+     */
+    public enum Size {
+        /**
+         * A plugin's main config, with a few dozen values in shallow sections
+         */
+        SMALL,
+        /**
+         * A config nested 16 sections deep, with a few values at every level
+         */
+        DEEP,
+        /**
+         * A generated loot table config with about 40,000 values
+         */
+        HUGE
+    }
+
+    public static final int SYNCED_FIELDS = SyncedFields.COUNT;
+
+    private Fixtures() {}
+
+    /**
+     * Creates a fresh temporary folder for a benchmark's configs, which should be deleted with {@link #delete(File)}
+     * @return The folder
+     */
+    public static File createFolder() {
+        try {
+            return Files.createTempDirectory("confighelper-jmh").toFile();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes a config file of the given size
+     * @param folder The folder to write it in
+     * @param name The name of the file
+     * @param size The size of the config
+     * @return The written file
+     */
+    public static File write(File folder, String name, Size size) {
+        return write(folder, name, yaml(size));
+    }
+
+    /**
+     * Writes a config file
+     * @param folder The folder to write it in
+     * @param name The name of the file
+     * @param contents The YAML contents of the file
+     * @return The written file
+     */
+    public static File write(File folder, String name, String contents) {
+        File file = new File(folder, name);
+        try {
+            Files.write(file.toPath(), contents.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return file;
+    }
+
+    /**
+     * Deletes a benchmark's folder and everything in it, including binary cache sidecars and temporary save files
+     * @param file The folder or file to delete
+     */
+    public static void delete(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) delete(child);
+        }
+
+        file.delete();
+    }
+
+    /**
+     * Generates the YAML of a config of the given size
+     * @param size The size of the config
+     * @return The YAML contents
+     */
+    public static String yaml(Size size) {
+        StringBuilder yaml = new StringBuilder();
+        switch (size) {
+            case SMALL:
+                yaml.append("prefix: '&7[&bPlugin&7] '\n");
+                yaml.append("debug: false\n");
+                for (String section : new String[] {"messages", "limits", "features"}) {
+                    yaml.append(section).append(":\n");
+                    for (int i = 0; i < 10; i++) yaml.append("  key").append(i).append(": ").append(value(i)).append('\n');
+                }
+                yaml.append("worlds:\n- world\n- world_nether\n- world_the_end\n");
+                break;
+            case DEEP:
+                String indent = "";
+                for (int depth = 0; depth < 16; depth++) {
+                    for (int i = 0; i < 4; i++) yaml.append(indent).append("key").append(i).append(": ").append(value(i)).append('\n');
+                    yaml.append(indent).append("level").append(depth).append(":\n");
+                    indent += "  ";
+                }
+                yaml.append(indent).append("leaf: bottom\n");
+                break;
+            case HUGE:
+                yaml.append("tables:\n");
+                for (int table = 0; table < 1000; table++) {
+                    yaml.append("  table").append(table).append(":\n");
+                    yaml.append("    rolls: ").append(table % 5 + 1).append('\n');
+                    yaml.append("    entries:\n");
+                    for (int entry = 0; entry < 12; entry++) {
+                        yaml.append("      entry").append(entry).append(":\n");
+                        yaml.append("        item: ITEM_").append(entry).append('\n');
+                        yaml.append("        weight: ").append(entry * 3 + 1).append('\n');
+                        yaml.append("        chance: ").append(entry / 12.0).append('\n');
+                    }
+                }
+                break;
+        }
+
+        return yaml.toString();
+    }
+
+    /**
+     * Gets paths of values which exist in a config of the given size, spread over the whole config
+     * @param size The size of the config
+     * @return The paths
+     */
+    public static String[] paths(Size size) {
+        List<String> paths = new ArrayList<>();
+        switch (size) {
+            case SMALL:
+                for (String section : new String[] {"messages", "limits", "features"}) {
+                    for (int i = 0; i < 10; i += 3) paths.add(section + ".key" + i);
+                }
+                break;
+            case DEEP:
+                StringBuilder prefix = new StringBuilder();
+                for (int depth = 0; depth < 16; depth++) {
+                    paths.add(prefix + "key" + depth % 4);
+                    prefix.append("level").append(depth).append('.');
+                }
+                paths.add(prefix + "leaf");
+                break;
+            case HUGE:
+                for (int table = 0; table < 1000; table += 97) {
+                    paths.add("tables.table" + table + ".rolls");
+                    paths.add("tables.table" + table + ".entries.entry" + table % 12 + ".weight");
+                }
+                break;
+        }
+
+        return paths.toArray(new String[0]);
+    }
+
+    /**
+     * Generates the YAML of the config bound to {@link SyncedFields}
+     * @param seed A number changing every value in the config
+     * @return The YAML contents
+     */
+    public static String syncedYaml(int seed) {
+        StringBuilder yaml = new StringBuilder("fields:\n");
+        for (int i = 0; i < SYNCED_FIELDS; i++) {
+            yaml.append("  field").append(i).append(": ");
+            switch (i % 4) {
+                case 0:
+                    yaml.append(i + seed);
+                    break;
+                case 1:
+                    yaml.append("value").append(i + seed);
+                    break;
+                case 2:
+                    yaml.append((i + seed) / 2.0);
+                    break;
+                default:
+                    yaml.append((i + seed) % 2 == 0);
+                    break;
+            }
+            yaml.append('\n');
+        }
+
+        return yaml.toString();
+    }
+
+    private static String value(int i) {
+        switch (i % 4) {
+            case 0:
+                return String.valueOf(i * 10);
+            case 1:
+                return "'Message number " + i + "'";
+            case 2:
+                return String.valueOf(i * 1.5);
+            default:
+                return String.valueOf(i % 2 == 0);
+        }
+    }
+}
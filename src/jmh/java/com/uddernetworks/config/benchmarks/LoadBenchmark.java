@@ -0,0 +1,92 @@
+package com.uddernetworks.config.benchmarks;
+
+import com.uddernetworks.config.Config;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures initializing a new Config from its file, and reloading an initialized one
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoadBenchmark {
+
+    @Param({"SMALL", "DEEP", "HUGE"})
+    public Fixtures.Size size;
+
+    @Param({"false", "true"})
+    public boolean binaryCache;
+
+    private File folder;
+    private Config config;
+
+    @Setup
+    public void setup() {
+        folder = Fixtures.createFolder();
+        Fixtures.write(folder, "load.yml", size);
+
+        // Also writes the binary cache sidecar, so initialize only measures loads reading it
+        config = create();
+        config.initialize(this);
+    }
+
+    @TearDown
+    public void tearDown() {
+        config.close();
+        Fixtures.delete(folder);
+    }
+
+    /**
+     * Holds the config created by a measured initialize, and closes it afterwards
+     */
+    @State(Scope.Thread)
+    public static class Initialized {
+
+        private Config config;
+
+        @TearDown(Level.Invocation)
+        public void close() {
+            if (config != null) {
+                config.close();
+                config = null;
+            }
+        }
+    }
+
+    private Config create() {
+        Config config = new Config("load.yml", folder);
+        config.getOptions().enableBinaryCache(binaryCache);
+        return config;
+    }
+
+    @Benchmark
+    public Config initialize(Initialized initialized) {
+        initialized.config = create();
+        initialized.config.initialize(this);
+        return initialized.config;
+    }
+
+    @Benchmark
+    public Config reload() {
+        config.reloadConfig();
+        return config;
+    }
+}
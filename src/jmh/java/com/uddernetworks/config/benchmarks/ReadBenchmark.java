@@ -0,0 +1,103 @@
+package com.uddernetworks.config.benchmarks;
+
+import com.uddernetworks.config.Config;
+import com.uddernetworks.config.ConfigKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures getting values through Config's delegating getters, with and without auto reload. Without change detection,
+ * auto reload parses the whole file on every get.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReadBenchmark {
+
+    @Param({"SMALL", "DEEP", "HUGE"})
+    public Fixtures.Size size;
+
+    @Param({"false", "true"})
+    public boolean autoReload;
+
+    @Param({"false", "true"})
+    public boolean changeDetection;
+
+    @Param({"false", "true"})
+    public boolean pathIndex;
+
+    private File folder;
+    private Config config;
+    private ConfigKey<Object> key;
+    private String[] paths;
+    private int next;
+
+    @Setup
+    public void setup() {
+        folder = Fixtures.createFolder();
+        Fixtures.write(folder, "read.yml", size);
+
+        config = new Config("read.yml", folder);
+        config.getOptions()
+                .enableAutoReload(autoReload)
+                .enableChangeDetection(changeDetection)
+                .enablePathIndex(pathIndex);
+        config.initialize(this);
+
+        paths = Fixtures.paths(size);
+        key = config.key(paths[paths.length - 1], Object.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        config.close();
+        Fixtures.delete(folder);
+    }
+
+    private String nextPath() {
+        String path = paths[next];
+        next = next + 1 == paths.length ? 0 : next + 1;
+        return path;
+    }
+
+    @Benchmark
+    public Object get() {
+        return config.get(nextPath());
+    }
+
+    @Benchmark
+    public String getString() {
+        return config.getString(nextPath());
+    }
+
+    @Benchmark
+    public int getInt() {
+        return config.getInt(nextPath());
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return config.contains(nextPath());
+    }
+
+    @Benchmark
+    public Object getKey() {
+        return key.get();
+    }
+}
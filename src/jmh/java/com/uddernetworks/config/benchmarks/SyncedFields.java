@@ -0,0 +1,611 @@
+package com.uddernetworks.config.benchmarks;
+
+import com.uddernetworks.config.ConfigSync;
+
+/**
+ * Holds the annotation-bound fields of the field sync benchmarks, bound to {@code synced.yml}
+ */
+public class SyncedFields {
+
+    public static final int COUNT = 200;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field0")
+    public int field0;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field1")
+    public String field1;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field2")
+    public double field2;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field3")
+    public boolean field3;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field4")
+    public int field4;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field5")
+    public String field5;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field6")
+    public double field6;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field7")
+    public boolean field7;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field8")
+    public int field8;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field9")
+    public String field9;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field10")
+    public double field10;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field11")
+    public boolean field11;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field12")
+    public int field12;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field13")
+    public String field13;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field14")
+    public double field14;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field15")
+    public boolean field15;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field16")
+    public int field16;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field17")
+    public String field17;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field18")
+    public double field18;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field19")
+    public boolean field19;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field20")
+    public int field20;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field21")
+    public String field21;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field22")
+    public double field22;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field23")
+    public boolean field23;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field24")
+    public int field24;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field25")
+    public String field25;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field26")
+    public double field26;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field27")
+    public boolean field27;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field28")
+    public int field28;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field29")
+    public String field29;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field30")
+    public double field30;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field31")
+    public boolean field31;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field32")
+    public int field32;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field33")
+    public String field33;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field34")
+    public double field34;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field35")
+    public boolean field35;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field36")
+    public int field36;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field37")
+    public String field37;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field38")
+    public double field38;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field39")
+    public boolean field39;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field40")
+    public int field40;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field41")
+    public String field41;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field42")
+    public double field42;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field43")
+    public boolean field43;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field44")
+    public int field44;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field45")
+    public String field45;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field46")
+    public double field46;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field47")
+    public boolean field47;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field48")
+    public int field48;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field49")
+    public String field49;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field50")
+    public double field50;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field51")
+    public boolean field51;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field52")
+    public int field52;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field53")
+    public String field53;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field54")
+    public double field54;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field55")
+    public boolean field55;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field56")
+    public int field56;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field57")
+    public String field57;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field58")
+    public double field58;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field59")
+    public boolean field59;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field60")
+    public int field60;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field61")
+    public String field61;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field62")
+    public double field62;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field63")
+    public boolean field63;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field64")
+    public int field64;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field65")
+    public String field65;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field66")
+    public double field66;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field67")
+    public boolean field67;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field68")
+    public int field68;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field69")
+    public String field69;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field70")
+    public double field70;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field71")
+    public boolean field71;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field72")
+    public int field72;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field73")
+    public String field73;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field74")
+    public double field74;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field75")
+    public boolean field75;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field76")
+    public int field76;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field77")
+    public String field77;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field78")
+    public double field78;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field79")
+    public boolean field79;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field80")
+    public int field80;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field81")
+    public String field81;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field82")
+    public double field82;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field83")
+    public boolean field83;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field84")
+    public int field84;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field85")
+    public String field85;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field86")
+    public double field86;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field87")
+    public boolean field87;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field88")
+    public int field88;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field89")
+    public String field89;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field90")
+    public double field90;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field91")
+    public boolean field91;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field92")
+    public int field92;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field93")
+    public String field93;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field94")
+    public double field94;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field95")
+    public boolean field95;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field96")
+    public int field96;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field97")
+    public String field97;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field98")
+    public double field98;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field99")
+    public boolean field99;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field100")
+    public int field100;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field101")
+    public String field101;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field102")
+    public double field102;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field103")
+    public boolean field103;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field104")
+    public int field104;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field105")
+    public String field105;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field106")
+    public double field106;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field107")
+    public boolean field107;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field108")
+    public int field108;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field109")
+    public String field109;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field110")
+    public double field110;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field111")
+    public boolean field111;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field112")
+    public int field112;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field113")
+    public String field113;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field114")
+    public double field114;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field115")
+    public boolean field115;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field116")
+    public int field116;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field117")
+    public String field117;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field118")
+    public double field118;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field119")
+    public boolean field119;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field120")
+    public int field120;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field121")
+    public String field121;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field122")
+    public double field122;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field123")
+    public boolean field123;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field124")
+    public int field124;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field125")
+    public String field125;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field126")
+    public double field126;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field127")
+    public boolean field127;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field128")
+    public int field128;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field129")
+    public String field129;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field130")
+    public double field130;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field131")
+    public boolean field131;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field132")
+    public int field132;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field133")
+    public String field133;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field134")
+    public double field134;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field135")
+    public boolean field135;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field136")
+    public int field136;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field137")
+    public String field137;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field138")
+    public double field138;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field139")
+    public boolean field139;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field140")
+    public int field140;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field141")
+    public String field141;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field142")
+    public double field142;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field143")
+    public boolean field143;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field144")
+    public int field144;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field145")
+    public String field145;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field146")
+    public double field146;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field147")
+    public boolean field147;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field148")
+    public int field148;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field149")
+    public String field149;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field150")
+    public double field150;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field151")
+    public boolean field151;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field152")
+    public int field152;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field153")
+    public String field153;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field154")
+    public double field154;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field155")
+    public boolean field155;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field156")
+    public int field156;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field157")
+    public String field157;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field158")
+    public double field158;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field159")
+    public boolean field159;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field160")
+    public int field160;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field161")
+    public String field161;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field162")
+    public double field162;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field163")
+    public boolean field163;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field164")
+    public int field164;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field165")
+    public String field165;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field166")
+    public double field166;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field167")
+    public boolean field167;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field168")
+    public int field168;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field169")
+    public String field169;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field170")
+    public double field170;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field171")
+    public boolean field171;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field172")
+    public int field172;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field173")
+    public String field173;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field174")
+    public double field174;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field175")
+    public boolean field175;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field176")
+    public int field176;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field177")
+    public String field177;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field178")
+    public double field178;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field179")
+    public boolean field179;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field180")
+    public int field180;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field181")
+    public String field181;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field182")
+    public double field182;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field183")
+    public boolean field183;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field184")
+    public int field184;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field185")
+    public String field185;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field186")
+    public double field186;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field187")
+    public boolean field187;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field188")
+    public int field188;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field189")
+    public String field189;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field190")
+    public double field190;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field191")
+    public boolean field191;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field192")
+    public int field192;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field193")
+    public String field193;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field194")
+    public double field194;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field195")
+    public boolean field195;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field196")
+    public int field196;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field197")
+    public String field197;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field198")
+    public double field198;
+
+    @ConfigSync(config = "synced.yml", path = "fields.field199")
+    public boolean field199;
+}
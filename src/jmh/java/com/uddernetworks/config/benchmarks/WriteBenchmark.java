@@ -0,0 +1,91 @@
+package com.uddernetworks.config.benchmarks;
+
+import com.uddernetworks.config.Config;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures changing values, with no auto save, a save on every change, or saves batched on the background thread
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WriteBenchmark {
+
+    public enum Saving {
+        NONE, SYNC, ASYNC
+    }
+
+    @Param({"SMALL", "HUGE"})
+    public Fixtures.Size size;
+
+    @Param({"NONE", "SYNC", "ASYNC"})
+    public Saving saving;
+
+    @Param({"false", "true"})
+    public boolean snapshots;
+
+    private File folder;
+    private Config config;
+    private String[] paths;
+    private int counter;
+
+    @Setup
+    public void setup() {
+        folder = Fixtures.createFolder();
+        Fixtures.write(folder, "write.yml", size);
+
+        config = new Config("write.yml", folder);
+        config.getOptions()
+                .enableAutoSave(saving != Saving.NONE)
+                .enableAsyncSave(saving == Saving.ASYNC)
+                .enableSnapshots(snapshots)
+                .enablePathIndex(snapshots);
+        config.initialize(this);
+
+        paths = Fixtures.paths(size);
+    }
+
+    @TearDown
+    public void tearDown() {
+        config.close();
+        Fixtures.delete(folder);
+    }
+
+    @Benchmark
+    public void set() {
+        counter++;
+        config.set(paths[counter % paths.length], counter);
+    }
+
+    @Benchmark
+    public void batch() {
+        counter++;
+        config.batch(transaction -> {
+            for (String path : paths) transaction.set(path, counter);
+        });
+    }
+
+    @Benchmark
+    public void setAndSave() {
+        counter++;
+        config.set(paths[counter % paths.length], counter);
+        config.saveConfig();
+    }
+}
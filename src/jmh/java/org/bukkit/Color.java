@@ -0,0 +1,7 @@
+package org.bukkit;
+
+/**
+ * Stand-in for Spigot's Color, which the benchmarks never store
+ */
+public final class Color {
+}
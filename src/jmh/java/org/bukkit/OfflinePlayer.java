@@ -0,0 +1,7 @@
+package org.bukkit;
+
+/**
+ * Stand-in for Spigot's OfflinePlayer, which the benchmarks never store
+ */
+public interface OfflinePlayer {
+}
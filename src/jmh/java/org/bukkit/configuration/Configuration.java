@@ -0,0 +1,20 @@
+package org.bukkit.configuration;
+
+import java.util.Map;
+
+/**
+ * Stand-in for Spigot's Configuration
+ */
+public interface Configuration extends ConfigurationSection {
+    void addDefault(String path, Object value);
+
+    void addDefaults(Map<String, Object> defaults);
+
+    void addDefaults(Configuration defaults);
+
+    void setDefaults(Configuration defaults);
+
+    Configuration getDefaults();
+
+    ConfigurationOptions options();
+}
@@ -0,0 +1,37 @@
+package org.bukkit.configuration;
+
+/**
+ * Stand-in for Spigot's ConfigurationOptions
+ */
+public class ConfigurationOptions {
+
+    private final Configuration configuration;
+    private char pathSeparator = '.';
+    private boolean copyDefaults = false;
+
+    protected ConfigurationOptions(Configuration configuration) {
+        this.configuration = configuration;
+    }
+
+    public Configuration configuration() {
+        return configuration;
+    }
+
+    public char pathSeparator() {
+        return pathSeparator;
+    }
+
+    public ConfigurationOptions pathSeparator(char value) {
+        this.pathSeparator = value;
+        return this;
+    }
+
+    public boolean copyDefaults() {
+        return copyDefaults;
+    }
+
+    public ConfigurationOptions copyDefaults(boolean value) {
+        this.copyDefaults = value;
+        return this;
+    }
+}
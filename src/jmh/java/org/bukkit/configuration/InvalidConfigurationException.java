@@ -0,0 +1,18 @@
+package org.bukkit.configuration;
+
+/**
+ * Stand-in for Spigot's InvalidConfigurationException
+ */
+public class InvalidConfigurationException extends Exception {
+
+    public InvalidConfigurationException() {
+    }
+
+    public InvalidConfigurationException(String message) {
+        super(message);
+    }
+
+    public InvalidConfigurationException(Throwable cause) {
+        super(cause);
+    }
+}
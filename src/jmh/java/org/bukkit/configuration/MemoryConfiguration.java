@@ -0,0 +1,56 @@
+package org.bukkit.configuration;
+
+import java.util.Map;
+
+/**
+ * Stand-in for Spigot's MemoryConfiguration
+ */
+public class MemoryConfiguration extends MemorySection implements Configuration {
+
+    protected Configuration defaults;
+    protected MemoryConfigurationOptions options;
+
+    public MemoryConfiguration() {
+    }
+
+    public MemoryConfiguration(Configuration defaults) {
+        this.defaults = defaults;
+    }
+
+    @Override
+    public void addDefault(String path, Object value) {
+        if (defaults == null) defaults = new MemoryConfiguration();
+        defaults.set(path, value);
+    }
+
+    @Override
+    public void addDefaults(Map<String, Object> defaults) {
+        defaults.forEach(this::addDefault);
+    }
+
+    @Override
+    public void addDefaults(Configuration defaults) {
+        addDefaults(defaults.getValues(true));
+    }
+
+    @Override
+    public void setDefaults(Configuration defaults) {
+        this.defaults = defaults;
+    }
+
+    @Override
+    public Configuration getDefaults() {
+        return defaults;
+    }
+
+    @Override
+    public ConfigurationSection getParent() {
+        return null;
+    }
+
+    @Override
+    public MemoryConfigurationOptions options() {
+        if (options == null) options = new MemoryConfigurationOptions(this);
+        return options;
+    }
+}
@@ -0,0 +1,11 @@
+package org.bukkit.configuration;
+
+/**
+ * Stand-in for Spigot's MemoryConfigurationOptions
+ */
+public class MemoryConfigurationOptions extends ConfigurationOptions {
+
+    protected MemoryConfigurationOptions(MemoryConfiguration configuration) {
+        super(configuration);
+    }
+}
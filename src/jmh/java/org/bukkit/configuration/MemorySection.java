@@ -0,0 +1,513 @@
+package org.bukkit.configuration;
+
+import org.bukkit.Color;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.util.Vector;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Stand-in for Spigot's MemorySection, with the same path, default and copy defaults behaviour
+ */
+public class MemorySection implements ConfigurationSection {
+
+    protected final Map<String, Object> map = new LinkedHashMap<>();
+    private final Configuration root;
+    private final ConfigurationSection parent;
+    private final String path;
+    private final String fullPath;
+
+    protected MemorySection() {
+        this.path = "";
+        this.fullPath = "";
+        this.parent = null;
+        this.root = (Configuration) this;
+    }
+
+    protected MemorySection(ConfigurationSection parent, String path) {
+        this.path = path;
+        this.parent = parent;
+        this.root = parent.getRoot();
+        this.fullPath = createPath(parent, path);
+    }
+
+    @Override
+    public Set<String> getKeys(boolean deep) {
+        Set<String> result = new LinkedHashSet<>();
+        if (root.options().copyDefaults()) {
+            ConfigurationSection defaults = getDefaultSection();
+            if (defaults != null) result.addAll(defaults.getKeys(deep));
+        }
+
+        mapChildrenKeys(result, this, deep);
+        return result;
+    }
+
+    @Override
+    public Map<String, Object> getValues(boolean deep) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        if (root.options().copyDefaults()) {
+            ConfigurationSection defaults = getDefaultSection();
+            if (defaults != null) result.putAll(defaults.getValues(deep));
+        }
+
+        mapChildrenValues(result, this, deep);
+        return result;
+    }
+
+    @Override
+    public boolean contains(String path) {
+        return contains(path, false);
+    }
+
+    @Override
+    public boolean contains(String path, boolean ignoreDefault) {
+        return (ignoreDefault ? get(path, null) : get(path)) != null;
+    }
+
+    @Override
+    public boolean isSet(String path) {
+        if (root.options().copyDefaults()) return contains(path);
+        return get(path, null) != null;
+    }
+
+    @Override
+    public String getCurrentPath() {
+        return fullPath;
+    }
+
+    @Override
+    public String getName() {
+        return path;
+    }
+
+    @Override
+    public Configuration getRoot() {
+        return root;
+    }
+
+    @Override
+    public ConfigurationSection getParent() {
+        return parent;
+    }
+
+    @Override
+    public void addDefault(String path, Object value) {
+        if (this == root) throw new UnsupportedOperationException("Unsupported addDefault(String, Object) implementation");
+        root.addDefault(createPath(this, path), value);
+    }
+
+    @Override
+    public ConfigurationSection getDefaultSection() {
+        Configuration defaults = root.getDefaults();
+        if (defaults != null && defaults.isConfigurationSection(getCurrentPath())) {
+            return defaults.getConfigurationSection(getCurrentPath());
+        }
+
+        return null;
+    }
+
+    @Override
+    public void set(String path, Object value) {
+        char separator = root.options().pathSeparator();
+        int end = -1;
+        int start;
+        ConfigurationSection section = this;
+        while ((end = path.indexOf(separator, start = end + 1)) != -1) {
+            String node = path.substring(start, end);
+            ConfigurationSection subSection = section.getConfigurationSection(node);
+            if (subSection == null) {
+                if (value == null) return;
+                section = section.createSection(node);
+            } else {
+                section = subSection;
+            }
+        }
+
+        String key = path.substring(start);
+        if (section != this) {
+            section.set(key, value);
+        } else if (value == null) {
+            map.remove(key);
+        } else {
+            map.put(key, value);
+        }
+    }
+
+    @Override
+    public Object get(String path) {
+        return get(path, getDefault(path));
+    }
+
+    @Override
+    public Object get(String path, Object def) {
+        if (path.isEmpty()) return this;
+
+        char separator = root.options().pathSeparator();
+        int end = -1;
+        int start;
+        ConfigurationSection section = this;
+        while ((end = path.indexOf(separator, start = end + 1)) != -1) {
+            section = section.getConfigurationSection(path.substring(start, end));
+            if (section == null) return def;
+        }
+
+        String key = path.substring(start);
+        if (section != this) return section.get(key, def);
+
+        Object result = map.get(key);
+        return result == null ? def : result;
+    }
+
+    @Override
+    public ConfigurationSection createSection(String path) {
+        char separator = root.options().pathSeparator();
+        int end = -1;
+        int start;
+        ConfigurationSection section = this;
+        while ((end = path.indexOf(separator, start = end + 1)) != -1) {
+            String node = path.substring(start, end);
+            ConfigurationSection subSection = section.getConfigurationSection(node);
+            section = subSection == null ? section.createSection(node) : subSection;
+        }
+
+        String key = path.substring(start);
+        if (section != this) return section.createSection(key);
+
+        ConfigurationSection result = new MemorySection(this, key);
+        map.put(key, result);
+        return result;
+    }
+
+    @Override
+    public ConfigurationSection createSection(String path, Map<?, ?> map) {
+        ConfigurationSection section = createSection(path);
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            if (entry.getValue() instanceof Map) {
+                section.createSection(entry.getKey().toString(), (Map<?, ?>) entry.getValue());
+            } else {
+                section.set(entry.getKey().toString(), entry.getValue());
+            }
+        }
+
+        return section;
+    }
+
+    @Override
+    public String getString(String path) {
+        Object def = getDefault(path);
+        return getString(path, def != null ? def.toString() : null);
+    }
+
+    @Override
+    public String getString(String path, String def) {
+        Object value = get(path, def);
+        return value != null ? value.toString() : def;
+    }
+
+    @Override
+    public boolean isString(String path) {
+        return get(path) instanceof String;
+    }
+
+    @Override
+    public int getInt(String path) {
+        Object def = getDefault(path);
+        return getInt(path, def instanceof Number ? ((Number) def).intValue() : 0);
+    }
+
+    @Override
+    public int getInt(String path, int def) {
+        Object value = get(path, def);
+        return value instanceof Number ? ((Number) value).intValue() : def;
+    }
+
+    @Override
+    public boolean isInt(String path) {
+        return get(path) instanceof Integer;
+    }
+
+    @Override
+    public boolean getBoolean(String path) {
+        Object def = getDefault(path);
+        return getBoolean(path, def instanceof Boolean ? (Boolean) def : false);
+    }
+
+    @Override
+    public boolean getBoolean(String path, boolean def) {
+        Object value = get(path, def);
+        return value instanceof Boolean ? (Boolean) value : def;
+    }
+
+    @Override
+    public boolean isBoolean(String path) {
+        return get(path) instanceof Boolean;
+    }
+
+    @Override
+    public double getDouble(String path) {
+        Object def = getDefault(path);
+        return getDouble(path, def instanceof Number ? ((Number) def).doubleValue() : 0);
+    }
+
+    @Override
+    public double getDouble(String path, double def) {
+        Object value = get(path, def);
+        return value instanceof Number ? ((Number) value).doubleValue() : def;
+    }
+
+    @Override
+    public boolean isDouble(String path) {
+        return get(path) instanceof Double;
+    }
+
+    @Override
+    public long getLong(String path) {
+        Object def = getDefault(path);
+        return getLong(path, def instanceof Number ? ((Number) def).longValue() : 0);
+    }
+
+    @Override
+    public long getLong(String path, long def) {
+        Object value = get(path, def);
+        return value instanceof Number ? ((Number) value).longValue() : def;
+    }
+
+    @Override
+    public boolean isLong(String path) {
+        return get(path) instanceof Long;
+    }
+
+    @Override
+    public List<?> getList(String path) {
+        Object def = getDefault(path);
+        return getList(path, def instanceof List ? (List<?>) def : null);
+    }
+
+    @Override
+    public List<?> getList(String path, List<?> def) {
+        Object value = get(path, def);
+        return value instanceof List ? (List<?>) value : def;
+    }
+
+    @Override
+    public boolean isList(String path) {
+        return get(path) instanceof List;
+    }
+
+    @Override
+    public List<String> getStringList(String path) {
+        List<String> result = new ArrayList<>();
+        for (Object value : listOrEmpty(path)) {
+            if (value != null) result.add(String.valueOf(value));
+        }
+
+        return result;
+    }
+
+    @Override
+    public List<Integer> getIntegerList(String path) {
+        return typedList(path, Integer.class);
+    }
+
+    @Override
+    public List<Boolean> getBooleanList(String path) {
+        return typedList(path, Boolean.class);
+    }
+
+    @Override
+    public List<Double> getDoubleList(String path) {
+        return typedList(path, Double.class);
+    }
+
+    @Override
+    public List<Float> getFloatList(String path) {
+        return typedList(path, Float.class);
+    }
+
+    @Override
+    public List<Long> getLongList(String path) {
+        return typedList(path, Long.class);
+    }
+
+    @Override
+    public List<Byte> getByteList(String path) {
+        return typedList(path, Byte.class);
+    }
+
+    @Override
+    public List<Character> getCharacterList(String path) {
+        return typedList(path, Character.class);
+    }
+
+    @Override
+    public List<Short> getShortList(String path) {
+        return typedList(path, Short.class);
+    }
+
+    @Override
+    public List<Map<?, ?>> getMapList(String path) {
+        List<Map<?, ?>> result = new ArrayList<>();
+        for (Object value : listOrEmpty(path)) {
+            if (value instanceof Map) result.add((Map<?, ?>) value);
+        }
+
+        return result;
+    }
+
+    private List<?> listOrEmpty(String path) {
+        List<?> list = getList(path);
+        return list == null ? new ArrayList<>() : list;
+    }
+
+    private <T> List<T> typedList(String path, Class<T> type) {
+        List<T> result = new ArrayList<>();
+        for (Object value : listOrEmpty(path)) {
+            if (type.isInstance(value)) result.add(type.cast(value));
+        }
+
+        return result;
+    }
+
+    @Override
+    public Vector getVector(String path) {
+        return getVector(path, null);
+    }
+
+    @Override
+    public Vector getVector(String path, Vector def) {
+        Object value = get(path, def);
+        return value instanceof Vector ? (Vector) value : def;
+    }
+
+    @Override
+    public boolean isVector(String path) {
+        return get(path) instanceof Vector;
+    }
+
+    @Override
+    public OfflinePlayer getOfflinePlayer(String path) {
+        return getOfflinePlayer(path, null);
+    }
+
+    @Override
+    public OfflinePlayer getOfflinePlayer(String path, OfflinePlayer def) {
+        Object value = get(path, def);
+        return value instanceof OfflinePlayer ? (OfflinePlayer) value : def;
+    }
+
+    @Override
+    public boolean isOfflinePlayer(String path) {
+        return get(path) instanceof OfflinePlayer;
+    }
+
+    @Override
+    public ItemStack getItemStack(String path) {
+        return getItemStack(path, null);
+    }
+
+    @Override
+    public ItemStack getItemStack(String path, ItemStack def) {
+        Object value = get(path, def);
+        return value instanceof ItemStack ? (ItemStack) value : def;
+    }
+
+    @Override
+    public boolean isItemStack(String path) {
+        return get(path) instanceof ItemStack;
+    }
+
+    @Override
+    public Color getColor(String path) {
+        return getColor(path, null);
+    }
+
+    @Override
+    public Color getColor(String path, Color def) {
+        Object value = get(path, def);
+        return value instanceof Color ? (Color) value : def;
+    }
+
+    @Override
+    public boolean isColor(String path) {
+        return get(path) instanceof Color;
+    }
+
+    @Override
+    public ConfigurationSection getConfigurationSection(String path) {
+        Object value = get(path, null);
+        if (value != null) return value instanceof ConfigurationSection ? (ConfigurationSection) value : null;
+
+        value = get(path, getDefault(path));
+        return value instanceof ConfigurationSection ? createSection(path) : null;
+    }
+
+    @Override
+    public boolean isConfigurationSection(String path) {
+        return get(path) instanceof ConfigurationSection;
+    }
+
+    protected Object getDefault(String path) {
+        Configuration defaults = root.getDefaults();
+        return defaults == null ? null : defaults.get(createPath(this, path));
+    }
+
+    protected void mapChildrenKeys(Set<String> output, ConfigurationSection section, boolean deep) {
+        if (!(section instanceof MemorySection)) {
+            for (String key : section.getKeys(deep)) output.add(createPath(section, key, this));
+            return;
+        }
+
+        for (Map.Entry<String, Object> entry : ((MemorySection) section).map.entrySet()) {
+            output.add(createPath(section, entry.getKey(), this));
+            if (deep && entry.getValue() instanceof ConfigurationSection) {
+                mapChildrenKeys(output, (ConfigurationSection) entry.getValue(), true);
+            }
+        }
+    }
+
+    protected void mapChildrenValues(Map<String, Object> output, ConfigurationSection section, boolean deep) {
+        if (!(section instanceof MemorySection)) {
+            section.getValues(deep).forEach((key, value) -> output.put(createPath(section, key, this), value));
+            return;
+        }
+
+        for (Map.Entry<String, Object> entry : ((MemorySection) section).map.entrySet()) {
+            output.put(createPath(section, entry.getKey(), this), entry.getValue());
+            if (deep && entry.getValue() instanceof ConfigurationSection) {
+                mapChildrenValues(output, (ConfigurationSection) entry.getValue(), true);
+            }
+        }
+    }
+
+    public static String createPath(ConfigurationSection section, String key) {
+        return createPath(section, key, section == null ? null : section.getRoot());
+    }
+
+    public static String createPath(ConfigurationSection section, String key, ConfigurationSection relativeTo) {
+        char separator = section.getRoot().options().pathSeparator();
+        StringBuilder builder = new StringBuilder();
+        for (ConfigurationSection parent = section; parent != null && parent != relativeTo; parent = parent.getParent()) {
+            if (builder.length() > 0) builder.insert(0, separator);
+            builder.insert(0, parent.getName());
+        }
+
+        if (key != null && !key.isEmpty()) {
+            if (builder.length() > 0) builder.append(separator);
+            builder.append(key);
+        }
+
+        return builder.toString();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[path='" + getCurrentPath() + "']";
+    }
+}
@@ -0,0 +1,72 @@
+package org.bukkit.configuration.file;
+
+import org.bukkit.configuration.Configuration;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.MemoryConfiguration;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Stand-in for Spigot's FileConfiguration
+ */
+public abstract class FileConfiguration extends MemoryConfiguration {
+
+    public FileConfiguration() {
+    }
+
+    public FileConfiguration(Configuration defaults) {
+        super(defaults);
+    }
+
+    public void save(File file) throws IOException {
+        if (file.getParentFile() != null) file.getParentFile().mkdirs();
+        String data = saveToString();
+
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)) {
+            writer.write(data);
+        }
+    }
+
+    public void save(String file) throws IOException {
+        save(new File(file));
+    }
+
+    public abstract String saveToString();
+
+    public void load(File file) throws IOException, InvalidConfigurationException {
+        load(new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8));
+    }
+
+    public void load(Reader reader) throws IOException, InvalidConfigurationException {
+        StringBuilder builder = new StringBuilder();
+        try (BufferedReader input = new BufferedReader(reader)) {
+            String line;
+            while ((line = input.readLine()) != null) builder.append(line).append('\n');
+        }
+
+        loadFromString(builder.toString());
+    }
+
+    public void load(String file) throws IOException, InvalidConfigurationException {
+        load(new File(file));
+    }
+
+    public abstract void loadFromString(String contents) throws InvalidConfigurationException;
+
+    protected abstract String buildHeader();
+
+    @Override
+    public FileConfigurationOptions options() {
+        if (options == null) options = new FileConfigurationOptions(this);
+        return (FileConfigurationOptions) options;
+    }
+}
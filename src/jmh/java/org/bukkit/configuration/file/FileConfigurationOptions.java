@@ -0,0 +1,24 @@
+package org.bukkit.configuration.file;
+
+import org.bukkit.configuration.MemoryConfigurationOptions;
+
+/**
+ * Stand-in for Spigot's FileConfigurationOptions
+ */
+public class FileConfigurationOptions extends MemoryConfigurationOptions {
+
+    private String header = null;
+
+    protected FileConfigurationOptions(FileConfiguration configuration) {
+        super(configuration);
+    }
+
+    public String header() {
+        return header;
+    }
+
+    public FileConfigurationOptions header(String value) {
+        this.header = value;
+        return this;
+    }
+}
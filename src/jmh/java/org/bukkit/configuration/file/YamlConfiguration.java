@@ -0,0 +1,89 @@
+package org.bukkit.configuration.file;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Stand-in for Spigot's YamlConfiguration, without header or serializable object support
+ */
+public class YamlConfiguration extends FileConfiguration {
+
+    @Override
+    public String saveToString() {
+        DumperOptions options = new DumperOptions();
+        options.setDefaultFlowStyle(DumperOptions.FlowStyle.BLOCK);
+        options.setIndent(2);
+
+        String dump = new Yaml(options).dump(toMap(this));
+        return dump.equals("{}\n") ? "" : dump;
+    }
+
+    private static Map<String, Object> toMap(ConfigurationSection section) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        section.getValues(false).forEach((key, value) ->
+                map.put(key, value instanceof ConfigurationSection ? toMap((ConfigurationSection) value) : value));
+        return map;
+    }
+
+    @Override
+    public void loadFromString(String contents) throws InvalidConfigurationException {
+        Map<?, ?> input;
+        try {
+            input = (Map<?, ?>) new Yaml().load(contents);
+        } catch (Exception e) {
+            throw new InvalidConfigurationException(e);
+        }
+
+        if (input != null) convertMapsToSections(input, this);
+    }
+
+    protected void convertMapsToSections(Map<?, ?> input, ConfigurationSection section) {
+        for (Map.Entry<?, ?> entry : input.entrySet()) {
+            String key = entry.getKey().toString();
+            Object value = entry.getValue();
+
+            if (value instanceof Map) {
+                convertMapsToSections((Map<?, ?>) value, section.createSection(key));
+            } else {
+                section.set(key, value);
+            }
+        }
+    }
+
+    @Override
+    protected String buildHeader() {
+        return "";
+    }
+
+    public static YamlConfiguration loadConfiguration(File file) {
+        YamlConfiguration config = new YamlConfiguration();
+        try {
+            config.load(file);
+        } catch (FileNotFoundException ignored) {
+        } catch (IOException | InvalidConfigurationException e) {
+            e.printStackTrace();
+        }
+
+        return config;
+    }
+
+    public static YamlConfiguration loadConfiguration(Reader reader) {
+        YamlConfiguration config = new YamlConfiguration();
+        try {
+            config.load(reader);
+        } catch (IOException | InvalidConfigurationException e) {
+            e.printStackTrace();
+        }
+
+        return config;
+    }
+}
@@ -0,0 +1,10 @@
+package org.bukkit.configuration.serialization;
+
+import java.util.Map;
+
+/**
+ * Stand-in for Spigot's ConfigurationSerializable
+ */
+public interface ConfigurationSerializable {
+    Map<String, Object> serialize();
+}
@@ -0,0 +1,15 @@
+package org.bukkit.configuration.serialization;
+
+import java.util.Map;
+
+/**
+ * Stand-in for Spigot's ConfigurationSerialization. No classes are registered, so nothing is deserialized.
+ */
+public class ConfigurationSerialization {
+
+    public static final String SERIALIZED_TYPE_KEY = "==";
+
+    public static ConfigurationSerializable deserializeObject(Map<String, ?> args) {
+        return null;
+    }
+}
@@ -0,0 +1,7 @@
+package org.bukkit.inventory;
+
+/**
+ * Stand-in for Spigot's ItemStack, which the benchmarks never store
+ */
+public class ItemStack {
+}
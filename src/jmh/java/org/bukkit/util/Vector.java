@@ -0,0 +1,7 @@
+package org.bukkit.util;
+
+/**
+ * Stand-in for Spigot's Vector, which the benchmarks never store
+ */
+public class Vector {
+}
@@ -0,0 +1,236 @@
+package com.uddernetworks.config;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads and writes binary sidecar files holding the already parsed tree of a config file, so unchanged files can be
+ * loaded without parsing their YAML. A sidecar is only used if the size, last modified time and hash of its config
+ * file all match, and configs holding values other than strings, numbers, booleans, lists and maps aren't cached.
+ * @author RubbaBoy
+ */
+class BinaryCache {
+
+    private static final int MAGIC = 0x43484243;
+    private static final byte VERSION = 1;
+
+    private static final byte SECTION = 0;
+    private static final byte STRING = 1;
+    private static final byte INT = 2;
+    private static final byte LONG = 3;
+    private static final byte DOUBLE = 4;
+    private static final byte BOOLEAN = 5;
+    private static final byte LIST = 6;
+    private static final byte MAP = 7;
+    private static final byte NULL = 8;
+
+    private BinaryCache() {}
+
+    /**
+     * Gets the sidecar file of a config file
+     * @param source The config file
+     * @return The sidecar file
+     */
+    static File getFile(File source) {
+        return new File(source.getAbsoluteFile().getParentFile(), "." + source.getName() + ".bin");
+    }
+
+    /**
+     * Reads the cached tree of a config file
+     * @param source The config file
+     * @param hash The hash of the config file's current contents
+     * @return The cached tree, or null if there's no sidecar or it's out of date
+     */
+    static YamlConfiguration read(File source, long hash) {
+        File file = getFile(source);
+        if (!file.isFile()) return null;
+
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || buffer.get() != VERSION) return null;
+            if (buffer.getLong() != source.length() || buffer.getLong() != source.lastModified() || buffer.getLong() != hash) return null;
+
+            YamlConfiguration configuration = new YamlConfiguration();
+            if (buffer.get() == STRING) configuration.options().header(readString(buffer));
+            readSection(buffer, configuration);
+            return configuration;
+        } catch (IOException | RuntimeException e) {
+            // A damaged sidecar is the same as a missing one, the YAML is parsed instead
+            return null;
+        }
+    }
+
+    /**
+     * Writes the sidecar of a config file, or deletes it if the tree holds values that can't be cached
+     * @param source The config file
+     * @param hash The hash of the config file's contents the tree was parsed from
+     * @param configuration The parsed tree
+     */
+    static void write(File source, long hash, YamlConfiguration configuration) {
+        File file = getFile(source);
+
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream output = new DataOutputStream(bytes);
+            output.writeInt(MAGIC);
+            output.writeByte(VERSION);
+            output.writeLong(source.length());
+            output.writeLong(source.lastModified());
+            output.writeLong(hash);
+
+            String header = configuration.options().header();
+            if (header == null) {
+                output.writeByte(NULL);
+            } else {
+                output.writeByte(STRING);
+                writeString(output, header);
+            }
+
+            if (!writeSection(output, configuration)) {
+                Files.deleteIfExists(file.toPath());
+                return;
+            }
+
+            Config.writeAtomically(file.toPath(), bytes.toByteArray(), false);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private static boolean writeSection(DataOutputStream output, ConfigurationSection section) throws IOException {
+        output.writeInt(section.getKeys(false).size());
+        for (String key : section.getKeys(false)) {
+            writeString(output, key);
+            if (!writeValue(output, section.get(key))) return false;
+        }
+
+        return true;
+    }
+
+    private static boolean writeValue(DataOutputStream output, Object value) throws IOException {
+        if (value == null) {
+            output.writeByte(NULL);
+        } else if (value instanceof ConfigurationSection) {
+            output.writeByte(SECTION);
+            return writeSection(output, (ConfigurationSection) value);
+        } else if (value instanceof String) {
+            output.writeByte(STRING);
+            writeString(output, (String) value);
+        } else if (value instanceof Integer) {
+            output.writeByte(INT);
+            output.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            output.writeByte(LONG);
+            output.writeLong((Long) value);
+        } else if (value instanceof Double) {
+            output.writeByte(DOUBLE);
+            output.writeDouble((Double) value);
+        } else if (value instanceof Boolean) {
+            output.writeByte(BOOLEAN);
+            output.writeBoolean((Boolean) value);
+        } else if (value instanceof List) {
+            List<?> list = (List<?>) value;
+            output.writeByte(LIST);
+            output.writeInt(list.size());
+            for (Object element : list) {
+                if (!writeValue(output, element)) return false;
+            }
+        } else if (value instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) value;
+            output.writeByte(MAP);
+            output.writeInt(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                if (!(entry.getKey() instanceof String)) return false;
+                writeString(output, (String) entry.getKey());
+                if (!writeValue(output, entry.getValue())) return false;
+            }
+        } else {
+            return false;
+        }
+
+        return true;
+    }
+
+    private static void readSection(ByteBuffer buffer, ConfigurationSection section) {
+        int size = buffer.getInt();
+        for (int i = 0; i < size; i++) {
+            String key = readString(buffer);
+            byte type = buffer.get();
+            if (type == SECTION) {
+                readSection(buffer, section.createSection(key));
+            } else {
+                section.set(key, readValue(buffer, type));
+            }
+        }
+    }
+
+    private static Object readValue(ByteBuffer buffer, byte type) {
+        switch (type) {
+            case NULL:
+                return null;
+            case STRING:
+                return readString(buffer);
+            case INT:
+                return buffer.getInt();
+            case LONG:
+                return buffer.getLong();
+            case DOUBLE:
+                return buffer.getDouble();
+            case BOOLEAN:
+                return buffer.get() != 0;
+            case LIST:
+                int length = readLength(buffer);
+                List<Object> list = new ArrayList<>(length);
+                for (int i = 0; i < length; i++) list.add(readValue(buffer, buffer.get()));
+                return list;
+            case MAP:
+                int size = buffer.getInt();
+                Map<String, Object> map = new LinkedHashMap<>();
+                for (int i = 0; i < size; i++) {
+                    String key = readString(buffer);
+                    map.put(key, readValue(buffer, buffer.get()));
+                }
+                return map;
+            default:
+                throw new IllegalArgumentException("Unknown value type " + type);
+        }
+    }
+
+    private static void writeString(DataOutputStream output, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    /**
+     * Reads the length of a string or list, which can't be more than the bytes left as every element takes at least one
+     * @param buffer The buffer to read from
+     * @return The length
+     * @throws IllegalArgumentException If the length is negative or more than the bytes left
+     */
+    private static int readLength(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) throw new IllegalArgumentException("Invalid length " + length);
+        return length;
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[readLength(buffer)];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -1,6 +1,5 @@
 package com.uddernetworks.config;
 
-import org.apache.commons.io.FileUtils;
 import org.bukkit.Color;
 import org.bukkit.OfflinePlayer;
 import org.bukkit.configuration.Configuration;
@@ -14,13 +13,35 @@ import org.bukkit.util.Vector;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.PrintWriter;
-import java.lang.reflect.Field;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.net.URL;
 import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  * @author RubbaBoy
@@ -33,7 +54,25 @@ public class Config extends FileConfiguration {
     private File fullPath;
     private ConfigOptions options;
     private static ConfigOptions defaultOptions = new ConfigOptions();
-    private YamlConfiguration fileConfiguration;
+    private volatile YamlConfiguration fileConfiguration;
+    private volatile PathIndex index;
+    private volatile int version;
+    private volatile boolean handedOut;
+
+    private volatile long lastModified;
+    private volatile long lastLength;
+    private long lastReloadCheck;
+    private volatile boolean watching;
+    private volatile ClassLoader lazyLoader;
+
+    private final Object writeLock = new Object();
+    private final Object saveLock = new Object();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private final AtomicBoolean saveScheduled = new AtomicBoolean();
+    private long savedHash;
+    private volatile boolean saved;
+    private final List<ConfigChangeListener> changeListeners = new CopyOnWriteArrayList<>();
+    private final ConfigMetrics metrics = new ConfigMetrics();
 
     /**
      * Creates a Config object with all default values
@@ -108,100 +147,315 @@ public class Config extends FileConfiguration {
     }
 
     /**
-     * Saves the current configuration to file
+     * Saves the current configuration to file. The config is written to a temporary file first, which then replaces
+     * the config file, so a failed save never leaves a partially written config behind. If nothing has changed since
+     * the last save and the file hasn't been changed on disk, nothing is written. Partially loaded configs are never
+     * saved.
      */
     public void saveConfig() {
+        if (fileConfiguration == null || options.getEnablePartialLoad()) return;
+        synchronized (saveLock) {
+            long start = System.nanoTime();
+            String data;
+            synchronized (writeLock) {
+                dirty.set(false);
+                data = serialize();
+            }
+
+            byte[] bytes = data.getBytes(StandardCharsets.UTF_8);
+            long hash = hash(bytes);
+            if (saved && hash == savedHash && !hasFileChanged()) {
+                metrics.recordSkippedSave(System.nanoTime() - start);
+                return;
+            }
+
+            try {
+                writeFile(bytes);
+                updateFileState();
+                savedHash = hash;
+                saved = true;
+                metrics.recordSave(bytes.length, System.nanoTime() - start);
+            } catch (IOException e) {
+                // The changes are still unsaved, so they're saved again by the next flush
+                dirty.set(true);
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Gets the contents to save of the current configuration, which only includes the values differing from the
+     * defaults if delta saving is enabled
+     * @return The contents to save
+     */
+    private String serialize() {
+        YamlConfiguration configuration = fileConfiguration;
+        Configuration defaults = configuration.getDefaults();
+        if (!options.getEnableDeltaSave() || defaults == null) return configuration.saveToString();
+
+        YamlConfiguration delta = copy(configuration);
+        removeDefaults(delta, defaults);
+        removeEmptySections(delta, defaults);
+        delta.options().header(configuration.options().header());
+        return delta.saveToString();
+    }
+
+    /**
+     * Writes the given bytes to a temporary file next to the config file, and then moves it over the config file
+     * @param bytes The bytes to write
+     * @throws IOException If the file could not be written or moved
+     */
+    private void writeFile(byte[] bytes) throws IOException {
+        writeAtomically(fullPath.toPath().toAbsolutePath(), bytes, options.getEnableFsync());
+    }
+
+    /**
+     * Writes the given bytes to a temporary file next to the target, and then moves it over the target. The temporary
+     * file is created with the default permissions, and then given the target's permissions if it already exists.
+     * @param target The file to write
+     * @param bytes The bytes to write
+     * @param fsync If the temporary file should be forced to disk before it's moved
+     * @throws IOException If the file could not be written or moved
+     */
+    static void writeAtomically(Path target, byte[] bytes, boolean fsync) throws IOException {
+        Path temp;
+        FileChannel channel = null;
+        do {
+            temp = target.resolveSibling("." + target.getFileName() + ThreadLocalRandom.current().nextInt(Integer.MAX_VALUE) + ".tmp");
+            try {
+                channel = FileChannel.open(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+            } catch (FileAlreadyExistsException ignored) {
+            }
+        } while (channel == null);
+
         try {
-            PrintWriter writer = new PrintWriter(fullPath);
-            writer.print("");
-            writer.close();
-            this.fileConfiguration.save(fullPath);
-        } catch (IOException e) {
-            e.printStackTrace();
+            try {
+                ByteBuffer buffer = ByteBuffer.wrap(bytes);
+                while (buffer.hasRemaining()) channel.write(buffer);
+                if (fsync) channel.force(true);
+            } finally {
+                channel.close();
+            }
+
+            if (Files.exists(target)) {
+                try {
+                    Files.setPosixFilePermissions(temp, Files.getPosixFilePermissions(target));
+                } catch (UnsupportedOperationException ignored) {
+                }
+            }
+
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
         }
     }
 
-    private static HashMap<String, HashMap<String, List<FieldEntry>>> updatingFields = new HashMap<>();
+    /**
+     * Hashes the given bytes with 64-bit FNV-1a, used to tell if the serialized config has changed since the last save
+     * @param bytes The bytes to hash
+     * @return The hash
+     */
+    static long hash(byte[] bytes) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : bytes) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+
+        return hash;
+    }
+
+    /**
+     * Saves the config if auto save is enabled. With async save enabled, the config is only marked as changed and
+     * saved in the background once the save interval has passed, so many changes in a row only cause one save.
+     */
+    private void autoSave() {
+        if (!options.getEnableAutoSave()) return;
+        if (!options.getEnableAsyncSave()) {
+            saveConfig();
+            return;
+        }
+
+        if (saveScheduled.compareAndSet(false, true)) {
+            ConfigExecutor.get().schedule(() -> {
+                saveScheduled.set(false);
+                flush();
+            }, options.getSaveInterval(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Saves the config now if it has been changed since it was last saved or loaded, such as changes waiting to be
+     * saved by async save
+     */
+    public void flush() {
+        if (dirty.get()) saveConfig();
+    }
+
+    /**
+     * Checks if the config has been changed since it was last saved or loaded
+     * @return If the config has unsaved changes
+     */
+    public boolean isDirty() {
+        return dirty.get();
+    }
+
+    /**
+     * Gets the metrics of this config
+     * @return The metrics
+     */
+    public ConfigMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Adds a listener which is called for every value that changes in this config, whether it's set or reloaded
+     * @param listener The listener to add
+     */
+    public void addChangeListener(ConfigChangeListener listener) {
+        changeListeners.add(listener);
+    }
+
+    /**
+     * Removes a listener added with {@link #addChangeListener(ConfigChangeListener)}
+     * @param listener The listener to remove
+     */
+    public void removeChangeListener(ConfigChangeListener listener) {
+        changeListeners.remove(listener);
+    }
+
+    private static ConcurrentMap<String, ConcurrentMap<String, List<FieldEntry>>> updatingFields = new ConcurrentHashMap<>();
+    private static ReferenceQueue<Object> collectedInstances = new ReferenceQueue<>();
 
     /**
      * Registers all of the annotations in the current class to the system for processing. Should only be ran once per class.
+     * Safe to run from any thread. The instance is only weakly referenced, so it's unregistered once garbage collected.
+     * Annotated fields of superclasses are registered too.
      * @param instance The instance of the current class. Should NOT be a class object.
      */
     public static void registerAnnotatedClass(Object instance) {
-        Class clazz = instance.getClass();
-
-        Field[] fields = clazz.getDeclaredFields();
-        for (Field field : fields) {
-            if (field.isAnnotationPresent(ConfigSync.class)) {
-                field.setAccessible(true);
-                ConfigSync configSync = field.getAnnotation(ConfigSync.class);
-
-                HashMap<String, List<FieldEntry>> pathsFields;
-                List<FieldEntry> pathFields;
-                if (updatingFields.containsKey(configSync.config())) {
-                    pathsFields = updatingFields.get(configSync.config());
-                    if (pathsFields.containsKey(configSync.path())) {
-                        pathFields = pathsFields.get(configSync.path());
-                    } else {
-                        pathFields = new ArrayList<>();
-                    }
-                } else {
-                    pathsFields = new HashMap<>();
-                    pathFields = new ArrayList<>();
-                }
+        purgeCollectedInstances();
+
+        for (FieldBinding binding : FieldBinding.forClass(instance.getClass())) {
+            FieldEntry fieldEntry = new FieldEntry(instance, binding, collectedInstances);
+            updatingFields.compute(binding.getConfig(), (config, paths) -> {
+                if (paths == null) paths = new ConcurrentHashMap<>();
+                paths.compute(binding.getPath(), (path, fieldEntries) -> {
+                    if (fieldEntries == null) fieldEntries = new CopyOnWriteArrayList<>();
+                    fieldEntries.add(fieldEntry);
+                    return fieldEntries;
+                });
+                return paths;
+            });
+        }
+    }
 
-                pathFields.add(new FieldEntry(instance, field));
-                pathsFields.put(configSync.path(), pathFields);
-                updatingFields.put(configSync.config(), pathsFields);
-            }
+    /**
+     * Unregisters all of the annotations of an instance registered with {@link #registerAnnotatedClass(Object)}, so
+     * its fields are no longer updated
+     * @param instance The registered instance
+     */
+    public static void unregisterAnnotatedClass(Object instance) {
+        purgeCollectedInstances();
+
+        for (FieldBinding binding : FieldBinding.forClass(instance.getClass())) {
+            removeFieldEntries(binding.getConfig(), binding.getPath(), fieldEntry -> {
+                if (fieldEntry.get() != instance) return false;
+                fieldEntry.clear();
+                return true;
+            });
         }
     }
 
-    private void updateFields(String path, Object value) {
-        if (updatingFields.containsKey(name)) {
+    /**
+     * Removes the entries of all registered instances that have been garbage collected
+     */
+    private static void purgeCollectedInstances() {
+        Reference<?> reference;
+        while ((reference = collectedInstances.poll()) != null) {
+            FieldEntry collected = (FieldEntry) reference;
+            FieldBinding binding = collected.getBinding();
+            removeFieldEntries(binding.getConfig(), binding.getPath(), fieldEntry -> fieldEntry == collected);
+        }
+    }
 
-            HashMap<String, List<FieldEntry>> paths = updatingFields.get(name);
+    private static void removeFieldEntries(String configName, String pathName, Predicate<FieldEntry> filter) {
+        updatingFields.computeIfPresent(configName, (config, paths) -> {
+            paths.computeIfPresent(pathName, (path, fieldEntries) -> {
+                fieldEntries.removeIf(filter);
+                return fieldEntries.isEmpty() ? null : fieldEntries;
+            });
+            return paths.isEmpty() ? null : paths;
+        });
+    }
 
-            if (paths.containsKey(path)) {
+    /**
+     * Updates the annotated fields of all of the given paths, and of the sections containing any changed path
+     * @param values The paths to update and their new values
+     * @param changedPaths All paths that changed, including ones that were removed
+     */
+    private void updateFields(Map<String, Object> values, Collection<String> changedPaths) {
+        purgeCollectedInstances();
+        Map<String, List<FieldEntry>> paths = updatingFields.get(name);
+        if (paths == null) return;
+
+        long start = System.nanoTime();
+        for (Map.Entry<String, Object> change : values.entrySet()) {
+            List<FieldEntry> fieldEntries = paths.get(change.getKey());
+            if (fieldEntries == null) continue;
+
+            for (FieldEntry fieldEntry : fieldEntries) {
+                fieldEntry.set(change.getValue());
+            }
+        }
 
-                for (FieldEntry fieldEntry : paths.get(path)) {
-                    try {
-                        Field field = fieldEntry.getField();
-                        field.setAccessible(true);
-                        field.set(fieldEntry.getInstance(), value);
-                    } catch (IllegalAccessException e) {
-                        e.printStackTrace();
-                    }
+        // Fields bound to a section are given the section again when anything in it changes
+        YamlConfiguration fileConfiguration = this.fileConfiguration;
+        char separator = fileConfiguration.options().pathSeparator();
+        Set<String> updated = new HashSet<>(values.keySet());
+        for (String path : changedPaths) {
+            for (int end = path.indexOf(separator); end != -1; end = path.indexOf(separator, end + 1)) {
+                String sectionPath = path.substring(0, end);
+                List<FieldEntry> fieldEntries = paths.get(sectionPath);
+                if (fieldEntries == null || !updated.add(sectionPath)) continue;
+
+                Object section = handOut(fileConfiguration.get(sectionPath, null));
+                if (!(section instanceof ConfigurationSection)) continue;
+                for (FieldEntry fieldEntry : fieldEntries) {
+                    fieldEntry.set(section);
                 }
             }
         }
+        metrics.recordFieldUpdate(System.nanoTime() - start);
     }
 
     /**
      * Updates all of the Annotated fields from the current config
      */
     public void updateAllFields() {
-        if (updatingFields.containsKey(name)) {
-            HashMap<String, List<FieldEntry>> temp = updatingFields.get(name);
-
-            for (String path : temp.keySet()) {
-                if (fileConfiguration.isSet(path)) {
-                    Object value = fileConfiguration.get(path, null);
-                    if (value == null) continue;
-                    List<FieldEntry> fieldEntries = temp.get(path);
-                    for (FieldEntry fieldEntry : fieldEntries) {
-                        try {
-                            Field field = fieldEntry.getField();
-                            field.setAccessible(true);
-                            field.set(fieldEntry.getInstance(), value);
-                        } catch (IllegalAccessException e) {
-                            e.printStackTrace();
-                        }
-                    }
+        if (!ensureLoaded()) return;
+        purgeCollectedInstances();
+        Map<String, List<FieldEntry>> paths = updatingFields.get(name);
+        if (paths == null) return;
+
+        long start = System.nanoTime();
+        YamlConfiguration fileConfiguration = this.fileConfiguration;
+        for (Map.Entry<String, List<FieldEntry>> entry : paths.entrySet()) {
+            String path = entry.getKey();
+            if (fileConfiguration.isSet(path)) {
+                // Values only coming from the defaults are set on fields too if they're copied into the config
+                Object value = fileConfiguration.options().copyDefaults() ? fileConfiguration.get(path) : fileConfiguration.get(path, null);
+                if (value == null) continue;
+                for (FieldEntry fieldEntry : entry.getValue()) {
+                    fieldEntry.set(value);
                 }
             }
-
         }
+        metrics.recordFieldUpdate(System.nanoTime() - start);
     }
 
     /**
@@ -209,536 +463,1128 @@ public class Config extends FileConfiguration {
      * @param instance The instance of the class to be initialized
      */
     public void initialize(Object instance) {
+        if (options.getEnableLazyLoad()) {
+            fullPath = new File(path, name);
+            lazyLoader = instance.getClass().getClassLoader();
+            return;
+        }
+
+        if (load(instance.getClass().getClassLoader())) completeInitialize();
+    }
+
+    /**
+     * Loads the config if lazy load is enabled and it hasn't been loaded yet
+     * @return If the config is loaded
+     */
+    private boolean ensureLoaded() {
+        if (fileConfiguration != null) return true;
+        if (lazyLoader == null) return false;
+
+        synchronized (writeLock) {
+            ClassLoader classLoader = lazyLoader;
+            if (fileConfiguration == null && classLoader != null) {
+                lazyLoader = null;
+                if (load(classLoader)) completeInitialize();
+            }
+        }
+
+        return fileConfiguration != null;
+    }
+
+    /**
+     * Initializes many configs at once, creating and loading their files in parallel on the common fork join pool.
+     * Annotated fields are then updated on the current thread once all of them have been loaded. Configs with lazy
+     * load enabled are still only loaded when first used.
+     * @param instance The instance of the class to be initialized
+     * @param configs The configs to initialize, with their options already set
+     */
+    public static void initializeAll(Object instance, Collection<Config> configs) {
+        initializeAll(instance, configs, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Initializes many configs at once, creating and loading their files in parallel on the given executor. Annotated
+     * fields are then updated on the current thread once all of them have been loaded. Configs with lazy load enabled
+     * are still only loaded when first used.
+     * @param instance The instance of the class to be initialized
+     * @param configs The configs to initialize, with their options already set
+     * @param executor The executor to load the configs on
+     */
+    public static void initializeAll(Object instance, Collection<Config> configs, Executor executor) {
+        List<Config> loading = new ArrayList<>();
+        List<CompletableFuture<Boolean>> futures = new ArrayList<>();
+        for (Config config : configs) {
+            if (config.getOptions().getEnableLazyLoad()) {
+                config.initialize(instance);
+                continue;
+            }
+
+            loading.add(config);
+            futures.add(CompletableFuture.supplyAsync(() -> config.load(instance.getClass().getClassLoader()), executor));
+        }
+
+        for (int i = 0; i < loading.size(); i++) {
+            try {
+                if (futures.get(i).join()) loading.get(i).completeInitialize();
+            } catch (CompletionException e) {
+                e.getCause().printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Creates the config file if needed and loads it, without updating any annotated fields. Safe to run off the main
+     * thread.
+     * @param classLoader The class loader to get the defaults resource from
+     * @return If the config was loaded
+     */
+    private boolean load(ClassLoader classLoader) {
+        long start = System.nanoTime();
         try {
             if (!path.exists()) {
                 path.mkdirs();
             }
 
+            URL url = options.getSetDefaults() == null ? null : classLoader.getResource(options.getSetDefaults());
             fullPath = new File(path, name);
-            if (!fullPath.exists()) {
+            boolean created = !fullPath.exists();
+            if (created) {
                 fullPath.createNewFile();
 
-                if (options.getSetDefaults() != null) {
-                    URL url = instance.getClass().getClassLoader().getResource(options.getSetDefaults());
-                    if (url == null) return;
+                if (options.getSetDefaults() != null && !options.getEnableDeltaSave()) {
+                    if (url == null) return false;
                     URLConnection connection = url.openConnection();
                     connection.setUseCaches(false);
 
-                    InputStream configStream = connection.getInputStream();
+                    try (InputStream configStream = connection.getInputStream()) {
+                        Files.copy(configStream, fullPath.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                    }
+                }
+            }
+
+            updateFileState();
+            YamlConfiguration loaded = parse();
+            // Existing files only get defaults if they're needed to fill in the values missing from the file
+            if (url != null && (created || options.getEnableSharedDefaults() || options.getEnableDeltaSave())) {
+                applyDefaults(loaded, ConfigDefaults.get(url));
+            }
+            publish(loaded);
+            saved = false;
+            metrics.recordLoad(System.nanoTime() - start);
+            return true;
+        } catch (IOException e) {
+            e.printStackTrace();
+            return false;
+        }
+    }
 
-                    FileUtils.copyInputStreamToFile(configStream, fullPath);
+    /**
+     * Parses the config file, only loading the needed paths if partial loading is enabled, or using its binary cache
+     * instead if it's enabled and up to date
+     * @return The parsed configuration
+     */
+    private YamlConfiguration parse() {
+        long start = System.nanoTime();
+        YamlConfiguration loaded = readFile();
+        metrics.recordParse(System.nanoTime() - start);
+        return loaded;
+    }
+
+    private YamlConfiguration readFile() {
+        if (options.getEnablePartialLoad()) {
+            Set<String> paths = new HashSet<>(options.getLoadPaths());
+            Map<String, List<FieldEntry>> fields = updatingFields.get(name);
+            if (fields != null) paths.addAll(fields.keySet());
+            return PartialLoader.load(fullPath, paths);
+        }
 
-                    configStream.close();
+        if (!options.getEnableBinaryCache()) return YamlConfiguration.loadConfiguration(fullPath);
 
-                    fileConfiguration = YamlConfiguration.loadConfiguration(fullPath);
-                    fileConfiguration.setDefaults(YamlConfiguration.loadConfiguration(fullPath));
+        YamlConfiguration loaded = new YamlConfiguration();
+        try {
+            byte[] bytes = Files.readAllBytes(fullPath.toPath());
+            long hash = hash(bytes);
+            YamlConfiguration cached = BinaryCache.read(fullPath, hash);
+            if (cached != null) return cached;
+
+            loaded.loadFromString(new String(bytes, StandardCharsets.UTF_8));
+            BinaryCache.write(fullPath, hash, loaded);
+        } catch (IOException | InvalidConfigurationException e) {
+            e.printStackTrace();
+        }
 
-                    updateAllFields();
-                    return;
-                }
+        return loaded;
+    }
+
+    /**
+     * Sets the defaults of a freshly loaded configuration. With shared defaults enabled, all values equal to their
+     * default are removed from the configuration, which then gets them from the defaults instead.
+     * @param loaded The loaded configuration
+     * @param defaults The defaults to set
+     */
+    private void applyDefaults(YamlConfiguration loaded, Configuration defaults) {
+        loaded.setDefaults(defaults);
+        if (options.getEnableSharedDefaults()) removeDefaults(loaded, defaults);
+        if (options.getEnableSharedDefaults() || options.getEnableDeltaSave()) loaded.options().copyDefaults(true);
+    }
+
+    /**
+     * Removes all values equal to their default from a configuration. Sections are kept even if they're left empty,
+     * as getting a section that's only in the defaults would create it in the configuration.
+     * @param configuration The configuration to remove the values from
+     * @param defaults The defaults to compare against
+     */
+    private static void removeDefaults(Configuration configuration, Configuration defaults) {
+        for (Map.Entry<String, Object> entry : configuration.getValues(true).entrySet()) {
+            Object value = entry.getValue();
+            if (!(value instanceof ConfigurationSection) && Objects.equals(value, defaults.get(entry.getKey()))) {
+                configuration.set(entry.getKey(), null);
             }
+        }
+    }
 
-            fileConfiguration = YamlConfiguration.loadConfiguration(fullPath);
+    /**
+     * Removes all empty sections of a configuration which are also in the defaults
+     * @param configuration The configuration to remove the sections from
+     * @param defaults The defaults to compare against
+     */
+    private static void removeEmptySections(Configuration configuration, Configuration defaults) {
+        List<String> keys = new ArrayList<>(configuration.getKeys(true));
+        Collections.reverse(keys);
+        for (String key : keys) {
+            ConfigurationSection section = configuration.getConfigurationSection(key);
+            if (section != null && section.getKeys(false).isEmpty() && defaults.isConfigurationSection(key)) {
+                configuration.set(key, null);
+            }
+        }
+    }
 
-            updateAllFields();
-        } catch (IOException e) {
-            e.printStackTrace();
+    /**
+     * Updates the annotated fields of a loaded config, and starts watching it if watch reload is enabled
+     */
+    private void completeInitialize() {
+        updateAllFields();
+
+        if (options.getEnableWatchReload()) {
+            watching = true;
+            ConfigWatcher.register(this);
+        }
+    }
+
+    /**
+     * Saves any changes waiting to be saved by auto save, and stops watching the config file if watch reload is
+     * enabled. Should be ran when the plugin is disabled. The config can still be used after being closed.
+     */
+    public void close() {
+        if (options.getEnableAutoSave()) flush();
+        if (watching) {
+            watching = false;
+            ConfigWatcher.unregister(this);
         }
     }
 
     /**
-     * Reloads the current config object from file
+     * Marks the config as no longer watched, after {@link ConfigWatcher} was shut down
+     */
+    void stopWatching() {
+        watching = false;
+    }
+
+    /**
+     * Reloads the current config object from file. Only annotation-bound fields and listeners of paths whose values
+     * changed in the file are updated.
      */
     public void reloadConfig() {
-        fileConfiguration = YamlConfiguration.loadConfiguration(fullPath);
+        if (fileConfiguration == null && lazyLoader != null) {
+            ensureLoaded();
+            return;
+        }
+
+        long start = System.nanoTime();
+        updateFileState();
+        YamlConfiguration loaded = parse();
+        Map<String, Object> before = new HashMap<>();
+        Map<String, Object> changes = new LinkedHashMap<>();
+        synchronized (writeLock) {
+            if (fileConfiguration != null && fileConfiguration.getDefaults() != null) {
+                applyDefaults(loaded, fileConfiguration.getDefaults());
+            }
+
+            // Diffing walks both trees, so it's skipped if there's nothing to tell about the changes
+            if (fileConfiguration != null && (!changeListeners.isEmpty() || updatingFields.get(name) != null)) {
+                before.putAll(leafValues(fileConfiguration));
+                Map<String, Object> after = leafValues(loaded);
+                after.forEach((path, value) -> {
+                    if (!Objects.equals(before.get(path), value)) changes.put(path, value);
+                });
+                before.keySet().forEach(path -> {
+                    if (!after.containsKey(path)) changes.put(path, null);
+                });
+            }
+
+            publish(loaded);
+            // The loaded contents may differ from the last save, so the next save can't be skipped by its hash
+            saved = false;
+            dirty.set(false);
+        }
+        metrics.recordReload(System.nanoTime() - start);
+
+        Map<String, Object> fieldChanges = new HashMap<>(changes);
+        fieldChanges.values().removeIf(Objects::isNull);
+        updateFields(fieldChanges, changes.keySet());
+        for (Map.Entry<String, Object> change : changes.entrySet()) {
+            fireChange(change.getKey(), before.get(change.getKey()), change.getValue());
+        }
+    }
+
+    /**
+     * Gets all values of a configuration that aren't sections
+     * @param configuration The configuration to get the values of
+     * @return The values by their paths
+     */
+    private static Map<String, Object> leafValues(Configuration configuration) {
+        Map<String, Object> values = configuration.getValues(true);
+        values.values().removeIf(value -> value instanceof ConfigurationSection);
+        return values;
+    }
+
+    /**
+     * Reloads the config and updates all annotated fields if the file has changed. Ran by {@link ConfigWatcher} off
+     * the main thread.
+     */
+    void watchReload() {
+        if (!hasFileChanged()) return;
+        reloadConfig();
+    }
+
+    /**
+     * Gets the configuration a change should be made to, and then set as the current one. With snapshots enabled this
+     * is a copy of the current configuration, so gets never see a partially made change. Should only be ran while
+     * holding the write lock.
+     * @return The configuration to change
+     */
+    YamlConfiguration beginWrite() {
+        if (!options.getEnableSnapshots()) return fileConfiguration;
+        return copyWithDefaults(fileConfiguration);
+    }
+
+    /**
+     * Gets a copy of the current configuration which can be changed without changing the config, for transactions
+     * to read their own changes from
+     * @return The copy
+     */
+    YamlConfiguration copyCurrentConfiguration() {
+        // Snapshots are never changed once they're current, so only live configurations need the lock to be copied
+        if (options.getEnableSnapshots()) return copyWithDefaults(fileConfiguration);
+        synchronized (writeLock) {
+            return copyWithDefaults(fileConfiguration);
+        }
+    }
+
+    /**
+     * Copies a configuration along with its defaults, header and copy defaults option
+     * @param configuration The configuration to copy
+     * @return The copy
+     */
+    private static YamlConfiguration copyWithDefaults(YamlConfiguration configuration) {
+        YamlConfiguration copy = copy(configuration);
+        copy.setDefaults(configuration.getDefaults());
+        copy.options().header(configuration.options().header());
+        copy.options().copyDefaults(configuration.options().copyDefaults());
+        return copy;
+    }
+
+    /**
+     * Copies all values and sections of a configuration into a new one, without its defaults
+     * @param configuration The configuration to copy
+     * @return The copy
+     */
+    private static YamlConfiguration copy(Configuration configuration) {
+        YamlConfiguration copy = new YamlConfiguration();
+        for (String key : configuration.getKeys(true)) {
+            // Only the configuration's own values are copied, even when it includes its defaults in its keys
+            Object value = configuration.get(key, null);
+            if (value instanceof ConfigurationSection) {
+                if (!copy.isConfigurationSection(key)) copy.createSection(key);
+            } else if (value != null) {
+                copy.set(key, value);
+            }
+        }
+
+        return copy;
+    }
+
+    /**
+     * Gets the path index changes should be made to. With snapshots enabled this is a copy of the current index.
+     * Should only be ran while holding the write lock.
+     * @return The index to change, or null if the path index is disabled
+     */
+    PathIndex beginIndexWrite() {
+        PathIndex pathIndex = index;
+        if (pathIndex == null || !options.getEnableSnapshots()) return pathIndex;
+        return new PathIndex(pathIndex);
+    }
+
+    /**
+     * Sets the current configuration and path index after changes were made to them
+     * @param configuration The changed configuration
+     * @param pathIndex The changed index from {@link #beginIndexWrite()}
+     */
+    private void publish(YamlConfiguration configuration, PathIndex pathIndex) {
+        if (pathIndex != null) index = pathIndex;
+        if (configuration != fileConfiguration) handedOut = false;
+        fileConfiguration = configuration;
+        version++;
+    }
+
+    /**
+     * Sets the current configuration, rebuilding the path index from it if enabled
+     * @param configuration The configuration to set
+     */
+    private void publish(YamlConfiguration configuration) {
+        index = options.getEnablePathIndex() ? new PathIndex(configuration) : null;
+        handedOut = false;
+        fileConfiguration = configuration;
+        version++;
+    }
+
+    /**
+     * Gets the current configuration, which may be changed by another thread unless snapshots are enabled
+     * @return The current configuration
+     */
+    YamlConfiguration getCurrentConfiguration() {
+        return fileConfiguration;
+    }
+
+    /**
+     * Gets the version of the config, which changes every time the config is loaded or changed
+     * @return The version
+     */
+    int getVersion() {
+        return version;
+    }
+
+    /**
+     * Checks if a section of the current configuration has been given out, which may be changed directly without
+     * changing the config's version
+     * @return If a section has been given out
+     */
+    boolean isHandedOut() {
+        return handedOut;
+    }
+
+    /**
+     * Creates a reusable handle to a path of this config, which caches the value at the path until the config is
+     * changed or reloaded. Meant for paths that are read very often.
+     * @param path The path of the value
+     * @param type The type of the value, such as int.class or String.class
+     * @param <T> The type of the value
+     * @return The handle
+     */
+    public <T> ConfigKey<T> key(String path, Class<T> type) {
+        return new ConfigKey<>(this, path, type, null);
+    }
+
+    /**
+     * Creates a reusable handle to a path of this config, which caches the value at the path until the config is
+     * changed or reloaded. Meant for paths that are read very often.
+     * @param path The path of the value
+     * @param type The type of the value, such as int.class or String.class
+     * @param def The value to use if the path isn't set or its value can't be converted to the type
+     * @param <T> The type of the value
+     * @return The handle
+     */
+    public <T> ConfigKey<T> key(String path, Class<T> type, T def) {
+        return new ConfigKey<>(this, path, type, def);
+    }
+
+    /**
+     * Gets the value at a full path from the path index
+     * @param path The full path
+     * @return The value, or null if it's not indexed or the path index is disabled
+     */
+    private Object getIndexed(String path) {
+        PathIndex pathIndex = index;
+        return pathIndex == null ? null : pathIndex.get(path);
+    }
+
+    /**
+     * Gets a value like {@link #get(String)}, without checking if the config should be reloaded first. Used by callers
+     * which have already ran {@link #autoReload()}.
+     * @param path The path of the value
+     * @return The value, or its default if it's not set
+     */
+    Object getWithoutReload(String path) {
+        if (!ensureLoaded()) return null;
+
+        Object value = getIndexed(path);
+        if (value != null) return value;
+        return handOut(fileConfiguration.get(path));
+    }
+
+    /**
+     * Stops the path index and cached key values from being used under a section about to be given out, as changes
+     * made directly to the section don't update the index or the config's version
+     * @param value The value about to be given out
+     * @return The given value
+     */
+    <T> T handOut(T value) {
+        if (!(value instanceof ConfigurationSection)) return value;
+        if (!handedOut) handedOut = true;
+
+        PathIndex pathIndex = index;
+        if (pathIndex != null) pathIndex.bypass(((ConfigurationSection) value).getCurrentPath());
+
+        return value;
+    }
+
+    /**
+     * Reloads the config before a get if auto reload is enabled. With change detection enabled, the file is only
+     * re-parsed if its last modified time or size differs from when it was last loaded or saved. As this is ran on
+     * every get, it's also where gets are counted.
+     */
+    void autoReload() {
+        metrics.recordRead();
+        if (!options.getEnableAutoReload() || watching) return;
+        if (!options.getEnableChangeDetection()) {
+            reloadConfig();
+            return;
+        }
+
+        long now = System.nanoTime();
+        if (now - lastReloadCheck < TimeUnit.MILLISECONDS.toNanos(options.getReloadInterval())) return;
+        lastReloadCheck = now;
+
+        if (hasFileChanged()) reloadConfig();
+    }
+
+    /**
+     * Checks if the file's last modified time or size differs from when it was last loaded or saved
+     * @return If the file has changed
+     */
+    private boolean hasFileChanged() {
+        return fullPath.lastModified() != lastModified || fullPath.length() != lastLength;
+    }
+
+    /**
+     * Records the file's current last modified time and size, to be compared against by change detection
+     */
+    private void updateFileState() {
+        lastModified = fullPath.lastModified();
+        lastLength = fullPath.length();
+        lastReloadCheck = System.nanoTime();
     }
 
     @Override
     public Set<String> getKeys(boolean deep) {
-        if (fileConfiguration == null) return new LinkedHashSet<>();
-        if (options.getEnableAutoReload()) reloadConfig();
+        if (!ensureLoaded()) return new LinkedHashSet<>();
+        autoReload();
 
         return fileConfiguration.getKeys(deep);
     }
 
     @Override
     public Map<String, Object> getValues(boolean deep) {
-        if (fileConfiguration == null) return new LinkedHashMap<>();
-        if (options.getEnableAutoReload()) reloadConfig();
+        if (!ensureLoaded()) return new LinkedHashMap<>();
+        autoReload();
 
-        return fileConfiguration.getValues(deep);
+        Map<String, Object> values = fileConfiguration.getValues(deep);
+        values.values().forEach(this::handOut);
+        return values;
     }
 
     @Override
     public boolean contains(String path) {
-        if (fileConfiguration == null) return false;
-        if (options.getEnableAutoReload()) reloadConfig();
+        if (!ensureLoaded()) return false;
+        autoReload();
 
+        Object value = getIndexed(path);
+        if (value != null) return true;
         return fileConfiguration.contains(path);
     }
 
     @Override
     public boolean contains(String path, boolean ignoreDefault) {
-        if (fileConfiguration == null) return false;
-        if (options.getEnableAutoReload()) reloadConfig();
+        if (!ensureLoaded()) return false;
+        autoReload();
 
         return fileConfiguration.contains(path, ignoreDefault);
     }
 
     @Override
     public boolean isSet(String path) {
-        if (fileConfiguration == null) return false;
-        if (options.getEnableAutoReload()) reloadConfig();
+        if (!ensureLoaded()) return false;
+        autoReload();
 
+        Object value = getIndexed(path);
+        if (value != null) return true;
         return fileConfiguration.isSet(path);
     }
 
     @Override
     public String getCurrentPath() {
-        if (fileConfiguration == null) return "";
-        if (options.getEnableAutoReload()) reloadConfig();
+        if (!ensureLoaded()) return "";
+        autoReload();
 
         return fileConfiguration.getCurrentPath();
     }
 
     @Override
     public String getName() {
-        if (fileConfiguration == null) return "";
-        if (options.getEnableAutoReload()) reloadConfig();
+        if (!ensureLoaded()) return "";
+        autoReload();
 
         return fileConfiguration.getName();
     }
 
     @Override
     public Configuration getRoot() {
-        if (fileConfiguration == null) return null;
-        if (options.getEnableAutoReload()) reloadConfig();
+        if (!ensureLoaded()) return null;
+        autoReload();
 
-        return fileConfiguration.getRoot();
+        return handOut(fileConfiguration.getRoot());
     }
 
     @Override
     public ConfigurationSection getParent() {
-        if (fileConfiguration == null) return null;
-        if (options.getEnableAutoReload()) reloadConfig();
+        if (!ensureLoaded()) return null;
+        autoReload();
 
         return fileConfiguration.getParent();
     }
 
     @Override
     public Object get(String path) {
-        if (fileConfiguration == null) return null;
-        if (options.getEnableAutoReload()) reloadConfig();
+        if (!ensureLoaded()) return null;
+        autoReload();
 
-        return fileConfiguration.get(path);
+        Object value = getIndexed(path);
+        if (value != null) return value;
+        return handOut(fileConfiguration.get(path));
     }
 
     @Override
     public Object get(String path, Object def) {
-        if (fileConfiguration == null) return def;
-        if (options.getEnableAutoReload()) reloadConfig();
+        if (!ensureLoaded()) return def;
+        autoReload();
 
-        return fileConfiguration.get(path, def);
+        Object value = getIndexed(path);
+        if (value != null) return value;
+        return handOut(fileConfiguration.get(path, def));
     }
 
     @Override
     public void set(String path, Object value) {
-        if (fileConfiguration != null) {
-            fileConfiguration.set(path, value);
-            if (options.getEnableAutoSave()) saveConfig();
-            updateFields(path, value);
+        if (ensureLoaded()) {
+            ConfigTransaction transaction = new ConfigTransaction(this);
+            transaction.set(path, value);
+            apply(transaction);
         }
     }
 
     @Override
     public ConfigurationSection createSection(String path) {
-        if (fileConfiguration == null) return null;
-        ConfigurationSection ret = fileConfiguration.createSection(path);
-        if (options.getEnableAutoSave()) saveConfig();
-        updateFields(path, ret);
-        return ret;
+        return createSection(path, null);
     }
 
     @Override
     public ConfigurationSection createSection(String path, Map<?, ?> map) {
-        if (fileConfiguration == null) return null;
-        ConfigurationSection ret = fileConfiguration.createSection(path, map);
-        if (options.getEnableAutoSave()) saveConfig();
-        updateFields(path, ret);
-        return ret;
+        if (!ensureLoaded()) return null;
+        ConfigTransaction transaction = new ConfigTransaction(this);
+        transaction.stageSection(path, map);
+        apply(transaction);
+        return handOut((ConfigurationSection) transaction.getChanges().get(path));
+    }
+
+    /**
+     * Makes many changes to the config at once. The changes are recorded without blocking other threads, and are all
+     * made once the given consumer returns, so other threads never see some of them without the rest. The config is
+     * then auto saved and annotated fields are updated once. If an exception is thrown, the changes made before it
+     * are kept.
+     * @param changes Makes the changes to the given transaction
+     */
+    public void batch(Consumer<ConfigTransaction> changes) {
+        batch(changes, false);
+    }
+
+    /**
+     * Makes many changes to the config at once. The changes are recorded without blocking other threads, and are all
+     * made once the given consumer returns, so other threads never see some of them without the rest. The config is
+     * then auto saved and annotated fields are updated once.
+     * @param changes Makes the changes to the given transaction
+     * @param rollback If an exception is thrown, weather the changes made before it should be dropped instead of kept
+     */
+    public void batch(Consumer<ConfigTransaction> changes, boolean rollback) {
+        if (!ensureLoaded()) return;
+        ConfigTransaction transaction = new ConfigTransaction(this);
+        RuntimeException failure = null;
+        try {
+            changes.accept(transaction);
+        } catch (RuntimeException e) {
+            // Nothing has been made to the config yet, so rolling back is just not applying the transaction
+            if (rollback) throw e;
+            failure = e;
+        } finally {
+            transaction.close();
+        }
+
+        apply(transaction);
+        if (failure != null) throw failure;
+    }
+
+    /**
+     * Makes the changes recorded by a transaction to the config, and then completes it
+     * @param transaction The transaction
+     */
+    private void apply(ConfigTransaction transaction) {
+        synchronized (writeLock) {
+            transaction.apply(!changeListeners.isEmpty());
+            commit(transaction);
+        }
+        complete(transaction);
+    }
+
+    /**
+     * Sets the config changed by a transaction as the current one. Should only be ran while holding the write lock.
+     * @param transaction The transaction
+     */
+    private void commit(ConfigTransaction transaction) {
+        if (transaction.isChanged()) publish(transaction.getConfiguration(), transaction.getPathIndex());
+    }
+
+    /**
+     * Auto saves the config if a transaction changed it, and updates the annotated fields of all paths it set
+     * @param transaction The committed transaction
+     */
+    private void complete(ConfigTransaction transaction) {
+        if (transaction.isChanged()) {
+            dirty.set(true);
+            autoSave();
+        }
+
+        updateFields(transaction.getChanges(), transaction.getChanges().keySet());
+
+        Map<String, Object> previous = transaction.getPrevious();
+        if (previous != null) {
+            for (Map.Entry<String, Object> entry : previous.entrySet()) {
+                fireChange(entry.getKey(), entry.getValue(), transaction.getChanges().get(entry.getKey()));
+            }
+        }
+    }
+
+    private void fireChange(String path, Object oldValue, Object newValue) {
+        for (ConfigChangeListener listener : changeListeners) {
+            try {
+                listener.onChange(path, oldValue, newValue);
+            } catch (RuntimeException e) {
+                e.printStackTrace();
+            }
+        }
     }
 
     @Override
     public String getString(String path) {
-        if (fileConfiguration == null) return null;
-        if (options.getEnableAutoReload()) reloadConfig();
+        if (!ensureLoaded()) return null;
+        autoReload();
 
+        Object value = getIndexed(path);
+        if (value != null) return value.toString();
         return fileConfiguration.getString(path);
     }
 
     @Override
     public String getString(String path, String def) {
-        if (fileConfiguration == null) return null;
-        if (options.getEnableAutoReload()) reloadConfig();
+        if (!ensureLoaded()) return null;
+        autoReload();
 
+        Object value = getIndexed(path);
+        if (value != null) return value.toString();
         return fileConfiguration.getString(path, def);
     }
 
     @Override
     public boolean isString(String path) {
-        if (fileConfiguration == null) return false;
-        if (options.getEnableAutoReload()) reloadConfig();
+        if (!ensureLoaded()) return false;
+        autoReload();
 
         return fileConfiguration.isString(path);
     }
 
     @Override
     public int getInt(String path) {
-        if (fileConfiguration == null) return 0;
-        if (options.getEnableAutoReload()) reloadConfig();
+        if (!ensureLoaded()) return 0;
+        autoReload();
 
+        Object value = getIndexed(path);
+        if (value instanceof Number) return ((Number) value).intValue();
         return fileConfiguration.getInt(path);
     }
 
     @Override
     public int getInt(String path, int def) {
-        if (fileConfiguration == null) return def;
-        if (options.getEnableAutoReload()) reloadConfig();
+        if (!ensureLoaded()) return def;
+        autoReload();
 
+        Object value = getIndexed(path);
+        if (value instanceof Number) return ((Number) value).intValue();
         return fileConfiguration.getInt(path, def);
     }
 
     @Override
     public boolean isInt(String path) {
-        if (fileConfiguration == null) return false;
-        if (options.getEnableAutoReload()) reloadConfig();
+        if (!ensureLoaded()) return false;
+        autoReload();
 
         return fileConfiguration.isInt(path);
     }
 
     @Override
     public boolean getBoolean(String path) {
-        if (fileConfiguration == null) return false;
-        if (options.getEnableAutoReload()) reloadConfig();
+        if (!ensureLoaded()) return false;
+        autoReload();
 
+        Object value = getIndexed(path);
+        if (value instanceof Boolean) return (Boolean) value;
         return fileConfiguration.getBoolean(path);
     }
 
     @Override
     public boolean getBoolean(String path, boolean def) {
-        if (fileConfiguration == null) return def;
-        if (options.getEnableAutoReload()) reloadConfig();
+        if (!ensureLoaded()) return def;
+        autoReload();
 
+        Object value = getIndexed(path);
+        if (value instanceof Boolean) return (Boolean) value;
         return fileConfiguration.getBoolean(path, def);
     }
 
     @Override
     public boolean isBoolean(String path) {
-        if (fileConfiguration == null) return false;
-        if (options.getEnableAutoReload()) reloadConfig();
+        if (!ensureLoaded()) return false;
+        autoReload();
 
         return fileConfiguration.isBoolean(path);
     }
 
     @Override
     public double getDouble(String path) {
-        if (fileConfiguration == null) return 0;
-        if (options.getEnableAutoReload()) reloadConfig();
+        if (!ensureLoaded()) return 0;
+        autoReload();
 
+        Object value = getIndexed(path);
+        if (value instanceof Number) return ((Number) value).doubleValue();
         return fileConfiguration.getDouble(path);
     }
 
     @Override
     public double getDouble(String path, double def) {
-        if (fileConfiguration == null) return def;
-        if (options.getEnableAutoReload()) reloadConfig();
+        if (!ensureLoaded()) return def;
+        autoReload();
 
+        Object value = getIndexed(path);
+        if (value instanceof Number) return ((Number) value).doubleValue();
         return fileConfiguration.getDouble(path, def);
     }
 
     @Override
     public boolean isDouble(String path) {
-        if (fileConfiguration == null) return false;
-        if (options.getEnableAutoReload()) reloadConfig();
+        if (!ensureLoaded()) return false;
+        autoReload();
 
         return fileConfiguration.isDouble(path);
     }
 
     @Override
     public long getLong(String path) {
-        if (fileConfiguration == null) return 0;
-        if (options.getEnableAutoReload()) reloadConfig();
+        if (!ensureLoaded()) return 0;
+        autoReload();
 
+        Object value = getIndexed(path);
+        if (value instanceof Number) return ((Number) value).longValue();
         return fileConfiguration.getLong(path);
     }
 
     @Override
     public long getLong(String path, long def) {
-        if (fileConfiguration == null) return def;
-        if (options.getEnableAutoReload()) reloadConfig();
+        if (!ensureLoaded()) return def;
+        autoReload();
 
+        Object value = getIndexed(path);
+        if (value instanceof Number) return ((Number) value).longValue();
         return fileConfiguration.getLong(path, def);
     }
 
     @Override
     public boolean isLong(String path) {
-        if (fileConfiguration == null) return false;
-        if (options.getEnableAutoReload()) reloadConfig();
+        if (!ensureLoaded()) return false;
+        autoReload();
 
         return fileConfiguration.isLong(path);
     }
 
     @Override
     public List<?> getList(String path) {
-        if (fileConfiguration == null) return new ArrayList<>();
-        if (options.getEnableAutoReload()) reloadConfig();
+        if (!ensureLoaded()) return new ArrayList<>();
+        autoReload();
 
         return fileConfiguration.getList(path);
     }
 
     @Override
     public List<?> getList(String path, List<?> def) {
-        if (fileConfiguration == null) return def;
-        if (options.getEnableAutoReload()) reloadConfig();
+        if (!ensureLoaded()) return def;
+        autoReload();
 
         return fileConfiguration.getList(path, def);
     }
 
     @Override
     public boolean isList(String path) {
-        if (fileConfiguration == null) return false;
-        if (options.getEnableAutoReload()) reloadConfig();
+        if (!ensureLoaded()) return false;
+        autoReload();
 
         return fileConfiguration.isList(path);
     }
 
     @Override
     public List<String> getStringList(String path) {
-        if (fileConfiguration == null) return new ArrayList<>();
-        if (options.getEnableAutoReload()) reloadConfig();
+        if (!ensureLoaded()) return new ArrayList<>();
+        autoReload();
 
         return fileConfiguration.getStringList(path);
     }
 
     @Override
     public List<Integer> getIntegerList(String path) {
-        if (fileConfiguration == null) return new ArrayList<>();
-        if (options.getEnableAutoReload()) reloadConfig();
+        if (!ensureLoaded()) return new ArrayList<>();
+        autoReload();
 
         return fileConfiguration.getIntegerList(path);
     }
 
     @Override
     public List<Boolean> getBooleanList(String path) {
-        if (fileConfiguration == null) return new ArrayList<>();
-        if (options.getEnableAutoReload()) reloadConfig();
+        if (!ensureLoaded()) return new ArrayList<>();
+        autoReload();
 
         return fileConfiguration.getBooleanList(path);
     }
 
     @Override
     public List<Double> getDoubleList(String path) {
-        if (fileConfiguration == null) return new ArrayList<>();
-        if (options.getEnableAutoReload()) reloadConfig();
+        if (!ensureLoaded()) return new ArrayList<>();
+        autoReload();
 
         return fileConfiguration.getDoubleList(path);
     }
 
     @Override
     public List<Float> getFloatList(String path) {
-        if (fileConfiguration == null) return new ArrayList<>();
-        if (options.getEnableAutoReload()) reloadConfig();
+        if (!ensureLoaded()) return new ArrayList<>();
+        autoReload();
 
         return fileConfiguration.getFloatList(path);
     }
 
     @Override
     public List<Long> getLongList(String path) {
-        if (fileConfiguration == null) return new ArrayList<>();
-        if (options.getEnableAutoReload()) reloadConfig();
+        if (!ensureLoaded()) return new ArrayList<>();
+        autoReload();
 
         return fileConfiguration.getLongList(path);
     }
 
     @Override
     public List<Byte> getByteList(String path) {
-        if (fileConfiguration == null) return new ArrayList<>();
-        if (options.getEnableAutoReload()) reloadConfig();
+        if (!ensureLoaded()) return new ArrayList<>();
+        autoReload();
 
         return fileConfiguration.getByteList(path);
     }
 
     @Override
     public List<Character> getCharacterList(String path) {
-        if (fileConfiguration == null) return new ArrayList<>();
-        if (options.getEnableAutoReload()) reloadConfig();
+        if (!ensureLoaded()) return new ArrayList<>();
+        autoReload();
 
         return fileConfiguration.getCharacterList(path);
     }
 
     @Override
     public List<Short> getShortList(String path) {
-        if (fileConfiguration == null) return new ArrayList<>();
-        if (options.getEnableAutoReload()) reloadConfig();
+        if (!ensureLoaded()) return new ArrayList<>();
+        autoReload();
 
         return fileConfiguration.getShortList(path);
     }
 
     @Override
     public List<Map<?, ?>> getMapList(String path) {
-        if (fileConfiguration == null) return new ArrayList<>();
-        if (options.getEnableAutoReload()) reloadConfig();
+        if (!ensureLoaded()) return new ArrayList<>();
+        autoReload();
 
         return fileConfiguration.getMapList(path);
     }
 
     @Override
     public Vector getVector(String path) {
-        if (fileConfiguration == null) return null;
-        if (options.getEnableAutoReload()) reloadConfig();
+        if (!ensureLoaded()) return null;
+        autoReload();
 
         return fileConfiguration.getVector(path);
     }
 
     @Override
     public Vector getVector(String path, Vector def) {
-        if (fileConfiguration == null) return def;
-        if (options.getEnableAutoReload()) reloadConfig();
+        if (!ensureLoaded()) return def;
+        autoReload();
 
         return fileConfiguration.getVector(path, def);
     }
 
     @Override
     public boolean isVector(String path) {
-        if (fileConfiguration == null) return false;
-        if (options.getEnableAutoReload()) reloadConfig();
+        if (!ensureLoaded()) return false;
+        autoReload();
 
         return fileConfiguration.isVector(path);
     }
 
     @Override
     public OfflinePlayer getOfflinePlayer(String path) {
-        if (fileConfiguration == null) return null;
-        if (options.getEnableAutoReload()) reloadConfig();
+        if (!ensureLoaded()) return null;
+        autoReload();
 
         return fileConfiguration.getOfflinePlayer(path);
     }
 
     @Override
     public OfflinePlayer getOfflinePlayer(String path, OfflinePlayer def) {
-        if (fileConfiguration == null) return def;
-        if (options.getEnableAutoReload()) reloadConfig();
+        if (!ensureLoaded()) return def;
+        autoReload();
 
         return fileConfiguration.getOfflinePlayer(path, def);
     }
 
     @Override
     public boolean isOfflinePlayer(String path) {
-        if (fileConfiguration == null) return false;
-        if (options.getEnableAutoReload()) reloadConfig();
+        if (!ensureLoaded()) return false;
+        autoReload();
 
         return fileConfiguration.isOfflinePlayer(path);
     }
 
     @Override
     public ItemStack getItemStack(String path) {
-        if (fileConfiguration == null) return null;
-        if (options.getEnableAutoReload()) reloadConfig();
+        if (!ensureLoaded()) return null;
+        autoReload();
 
         return fileConfiguration.getItemStack(path);
     }
 
     @Override
     public ItemStack getItemStack(String path, ItemStack def) {
-        if (fileConfiguration == null) return def;
-        if (options.getEnableAutoReload()) reloadConfig();
+        if (!ensureLoaded()) return def;
+        autoReload();
 
         return fileConfiguration.getItemStack(path, def);
     }
 
     @Override
     public boolean isItemStack(String path) {
-        if (fileConfiguration == null) return false;
-        if (options.getEnableAutoReload()) reloadConfig();
+        if (!ensureLoaded()) return false;
+        autoReload();
 
         return fileConfiguration.isItemStack(path);
     }
 
     @Override
     public Color getColor(String path) {
-        if (fileConfiguration == null) return null;
-        if (options.getEnableAutoReload()) reloadConfig();
+        if (!ensureLoaded()) return null;
+        autoReload();
 
         return fileConfiguration.getColor(path);
     }
 
     @Override
     public Color getColor(String path, Color def) {
-        if (fileConfiguration == null) return def;
-        if (options.getEnableAutoReload()) reloadConfig();
+        if (!ensureLoaded()) return def;
+        autoReload();
 
         return fileConfiguration.getColor(path, def);
     }
 
     @Override
     public boolean isColor(String path) {
-        if (fileConfiguration == null) return false;
-        if (options.getEnableAutoReload()) reloadConfig();
+        if (!ensureLoaded()) return false;
+        autoReload();
 
         return fileConfiguration.isColor(path);
     }
 
     @Override
     public ConfigurationSection getConfigurationSection(String path) {
-        if (fileConfiguration == null) return null;
-        if (options.getEnableAutoReload()) reloadConfig();
+        if (!ensureLoaded()) return null;
+        autoReload();
 
-        return fileConfiguration.getConfigurationSection(path);
+        return handOut(fileConfiguration.getConfigurationSection(path));
     }
 
     @Override
     public boolean isConfigurationSection(String path) {
-        if (fileConfiguration == null) return false;
-        if (options.getEnableAutoReload()) reloadConfig();
+        if (!ensureLoaded()) return false;
+        autoReload();
 
         return fileConfiguration.isConfigurationSection(path);
     }
 
     @Override
     public ConfigurationSection getDefaultSection() {
-        if (fileConfiguration == null) return null;
-        if (options.getEnableAutoReload()) reloadConfig();
+        if (!ensureLoaded()) return null;
+        autoReload();
 
         return fileConfiguration.getDefaultSection();
     }
 
     @Override
     public void addDefault(String path, Object value) {
-        if (fileConfiguration != null) {
-            fileConfiguration.addDefault(path, value);
+        if (ensureLoaded()) {
+            synchronized (writeLock) {
+                // Cached defaults are shared with other configs, so they're copied before being changed
+                Configuration defaults = fileConfiguration.getDefaults();
+                if (defaults != null && ConfigDefaults.isShared(defaults)) {
+                    fileConfiguration.setDefaults(copy(defaults));
+                }
+
+                fileConfiguration.addDefault(path, value);
+            }
         }
     }
 
     @Override
     public String saveToString() {
-        if (fileConfiguration == null) return null;
-        if (options.getEnableAutoReload()) reloadConfig();
+        if (!ensureLoaded()) return null;
+        autoReload();
 
-        return fileConfiguration.saveToString();
+        return serialize();
     }
 
     @Override
     public void loadFromString(String s) throws InvalidConfigurationException {
-        if (fileConfiguration == null) return;
-        if (options.getEnableAutoReload()) reloadConfig();
+        if (!ensureLoaded()) return;
+        autoReload();
 
-        fileConfiguration.loadFromString(s);
+        synchronized (writeLock) {
+            YamlConfiguration configuration = beginWrite();
+            configuration.loadFromString(s);
+            publish(configuration);
+        }
     }
 
     @Override
     protected String buildHeader() {
-        if (fileConfiguration == null) return null;
-        if (options.getEnableAutoReload()) reloadConfig();
+        if (!ensureLoaded()) return null;
+        autoReload();
 
         try {
             Method buildHeader = fileConfiguration.getClass().getDeclaredMethod("buildHeader");
@@ -750,21 +1596,25 @@ public class Config extends FileConfiguration {
         }
     }
 
-    private static class FieldEntry {
-        private Object instance;
-        private Field field;
+    private static class FieldEntry extends WeakReference<Object> {
+        private FieldBinding binding;
 
-        FieldEntry(Object instance, Field field) {
-            this.instance = instance;
-            this.field = field;
+        FieldEntry(Object instance, FieldBinding binding, ReferenceQueue<Object> queue) {
+            super(instance, queue);
+            this.binding = binding;
         }
 
-        Object getInstance() {
-            return instance;
+        FieldBinding getBinding() {
+            return binding;
         }
 
-        Field getField() {
-            return field;
+        /**
+         * Sets the field of the instance to the given value, if the instance hasn't been garbage collected
+         * @param value The value to set
+         */
+        void set(Object value) {
+            Object instance = get();
+            if (instance != null) binding.set(instance, value);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,243 @@
+package com.uddernetworks.config;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps a limited amount of Config objects from the same folder loaded, such as one config per player. When more
+ * configs than the maximum size are loaded, the least recently used one is saved if it has unsaved changes, closed and
+ * forgotten, and it's loaded again the next time it's gotten. Configs are loaded and evicted configs are saved without
+ * holding the cache's lock, and getting a config while it's being loaded or evicted waits for that to finish first.
+ * @author RubbaBoy
+ */
+public class ConfigCache {
+
+    private Object instance;
+    private File folder;
+    private int maxSize;
+    private ConfigOptions options;
+    private LinkedHashMap<String, Config> configs;
+    private Map<String, Config> evicting = new HashMap<>();
+    private List<String> pending = new ArrayList<>();
+    private Set<String> loading = new HashSet<>();
+
+    /**
+     * Creates a ConfigCache using the global default options for its configs
+     * @param instance The instance of the class configs are initialized with
+     * @param folder The folder the configs are in
+     * @param maxSize The maximum amount of configs kept loaded
+     * @throws IllegalArgumentException If the maximum size is less than 1
+     */
+    public ConfigCache(Object instance, File folder, int maxSize) {
+        this(instance, folder, maxSize, new ConfigOptions(Config.getDefaultOptions()));
+    }
+
+    /**
+     * Creates a ConfigCache
+     * @param instance The instance of the class configs are initialized with
+     * @param folder The folder the configs are in
+     * @param maxSize The maximum amount of configs kept loaded
+     * @param options The options each config is created with a copy of
+     * @throws IllegalArgumentException If the maximum size is less than 1
+     */
+    public ConfigCache(Object instance, File folder, int maxSize, ConfigOptions options) {
+        checkMaxSize(maxSize);
+        this.instance = instance;
+        this.folder = folder;
+        this.maxSize = maxSize;
+        this.options = options;
+        this.configs = new LinkedHashMap<String, Config>(16, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Config> eldest) {
+                if (size() <= ConfigCache.this.maxSize) return false;
+                evict(eldest.getKey(), eldest.getValue());
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Gets the options each config is created with a copy of
+     * @return The options
+     */
+    public ConfigOptions getOptions() {
+        return options;
+    }
+
+    /**
+     * Gets a config, loading it if it's not loaded. Configs should not be kept after they may have been evicted, as
+     * changes made to them afterwards are not seen by the cache.
+     * @param name The name of the config file with .yml file extension
+     * @return The initialized config
+     */
+    public Config get(String name) {
+        synchronized (this) {
+            await(name);
+            Config config = configs.get(name);
+            if (config != null) return config;
+            loading.add(name);
+        }
+
+        Config config = new Config(name, folder);
+        boolean loaded = false;
+        try {
+            config.setOptions(new ConfigOptions(options));
+            config.initialize(instance);
+            loaded = true;
+        } finally {
+            synchronized (this) {
+                loading.remove(name);
+                if (loaded) configs.put(name, config);
+                notifyAll();
+            }
+        }
+
+        savePending();
+        return config;
+    }
+
+    /**
+     * Gets a config only if it's loaded
+     * @param name The name of the config file with .yml file extension
+     * @return The config, or null if it's not loaded
+     */
+    public synchronized Config getIfLoaded(String name) {
+        return configs.get(name);
+    }
+
+    /**
+     * Saves a config if it has unsaved changes, and forgets it
+     * @param name The name of the config file with .yml file extension
+     */
+    public void invalidate(String name) {
+        synchronized (this) {
+            Config config = configs.remove(name);
+            if (config != null) evict(name, config);
+        }
+
+        savePending();
+    }
+
+    /**
+     * Saves all loaded configs that have unsaved changes
+     */
+    public synchronized void flushAll() {
+        configs.values().forEach(Config::flush);
+    }
+
+    /**
+     * Saves all loaded configs that have unsaved changes and forgets them. Should be ran when the plugin is disabled.
+     */
+    public void close() {
+        synchronized (this) {
+            configs.forEach(this::evict);
+            configs.clear();
+        }
+
+        savePending();
+    }
+
+    /**
+     * Gets the amount of configs currently loaded
+     * @return The amount of loaded configs
+     */
+    public synchronized int size() {
+        return configs.size();
+    }
+
+    /**
+     * Gets the maximum amount of configs kept loaded
+     * @return The maximum size
+     */
+    public synchronized int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Sets the maximum amount of configs kept loaded, evicting the least recently used ones if more are loaded
+     * @param maxSize The maximum size
+     * @throws IllegalArgumentException If the maximum size is less than 1
+     */
+    public void setMaxSize(int maxSize) {
+        checkMaxSize(maxSize);
+        synchronized (this) {
+            this.maxSize = maxSize;
+
+            while (configs.size() > maxSize) {
+                String eldest = configs.keySet().iterator().next();
+                evict(eldest, configs.remove(eldest));
+            }
+        }
+
+        savePending();
+    }
+
+    private static void checkMaxSize(int maxSize) {
+        if (maxSize < 1) throw new IllegalArgumentException("The maximum size must be at least 1, but was " + maxSize);
+    }
+
+    /**
+     * Marks a forgotten config to be saved and closed once the lock is released. Should only be ran while holding the
+     * lock.
+     * @param name The name of the config
+     * @param config The config
+     */
+    private void evict(String name, Config config) {
+        evicting.put(name, config);
+        pending.add(name);
+    }
+
+    /**
+     * Waits until a config being loaded by another thread has been loaded, so it's only loaded once, and until a
+     * config being evicted has been saved, so it's not loaded again before its changes are written. Should only be ran
+     * while holding the lock.
+     * @param name The name of the config
+     */
+    private void await(String name) {
+        boolean interrupted = false;
+        while (loading.contains(name) || evicting.containsKey(name)) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+
+        if (interrupted) Thread.currentThread().interrupt();
+    }
+
+    /**
+     * Saves and closes all evicted configs no other thread has started saving yet, without holding the lock
+     */
+    private void savePending() {
+        List<String> names;
+        synchronized (this) {
+            if (pending.isEmpty()) return;
+            names = new ArrayList<>(pending);
+            pending.clear();
+        }
+
+        for (String name : names) {
+            Config config;
+            synchronized (this) {
+                config = evicting.get(name);
+            }
+
+            try {
+                config.flush();
+                config.close();
+            } finally {
+                synchronized (this) {
+                    evicting.remove(name);
+                    notifyAll();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.uddernetworks.config;
+
+/**
+ * Listens for values changing in a Config, whether they're set or changed in the file and reloaded
+ * @author RubbaBoy
+ */
+@FunctionalInterface
+public interface ConfigChangeListener {
+
+    /**
+     * Called after a value in the config has changed
+     * @param path The path of the value
+     * @param oldValue The previous value, or null if it wasn't set
+     * @param newValue The new value, or null if it was removed
+     */
+    void onChange(String path, Object oldValue, Object newValue);
+}
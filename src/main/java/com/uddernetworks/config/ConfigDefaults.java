@@ -0,0 +1,196 @@
+package com.uddernetworks.config;
+
+import org.bukkit.configuration.Configuration;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.MemorySection;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A process-wide registry of parsed defaults resources. Each resource is parsed once, and the parsed defaults are
+ * shared by every Config using it, so they're read-only once parsed. Setting values, creating sections, adding
+ * defaults and changing their lists or maps throws an {@link UnsupportedOperationException}.
+ * @author RubbaBoy
+ */
+public class ConfigDefaults {
+
+    private static ConcurrentMap<String, SharedDefaults> resources = new ConcurrentHashMap<>();
+
+    private ConfigDefaults() {}
+
+    /**
+     * Gets the parsed defaults of a resource, parsing it if it hasn't been used before
+     * @param url The URL of the resource
+     * @return The shared defaults
+     */
+    static YamlConfiguration get(URL url) {
+        return resources.computeIfAbsent(url.toString(), resource -> load(url));
+    }
+
+    /**
+     * Checks if the given defaults are shared defaults from this registry
+     * @param defaults The defaults to check
+     * @return If the defaults are shared
+     */
+    static boolean isShared(Configuration defaults) {
+        return defaults instanceof SharedDefaults;
+    }
+
+    /**
+     * Forgets all parsed defaults resources, so they're parsed again the next time they're used. Should be ran if a
+     * plugin jar with changed resources is reloaded.
+     */
+    public static void clear() {
+        resources.clear();
+    }
+
+    private static SharedDefaults load(URL url) {
+        SharedDefaults defaults = new SharedDefaults();
+        try {
+            URLConnection connection = url.openConnection();
+            connection.setUseCaches(false);
+
+            try (Reader reader = new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8)) {
+                defaults.load(reader);
+            }
+        } catch (IOException | InvalidConfigurationException e) {
+            e.printStackTrace();
+        }
+
+        defaults.seal();
+        return defaults;
+    }
+
+    /**
+     * Makes all values of a section's map read-only, sealing its child sections too
+     * @param map The map of the section
+     */
+    private static void sealValues(Map<String, Object> map) {
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            if (entry.getValue() instanceof SharedSection) {
+                ((SharedSection) entry.getValue()).seal();
+            } else {
+                entry.setValue(readOnly(entry.getValue()));
+            }
+        }
+    }
+
+    private static Object readOnly(Object value) {
+        if (value instanceof List) {
+            List<Object> list = new ArrayList<>();
+            for (Object element : (List<?>) value) list.add(readOnly(element));
+            return Collections.unmodifiableList(list);
+        } else if (value instanceof Map) {
+            Map<Object, Object> map = new LinkedHashMap<>();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) map.put(entry.getKey(), readOnly(entry.getValue()));
+            return Collections.unmodifiableMap(map);
+        }
+
+        return value;
+    }
+
+    /**
+     * The root of parsed defaults, which can only be changed while it's being loaded
+     */
+    static class SharedDefaults extends YamlConfiguration {
+
+        private volatile boolean sealed;
+
+        private void seal() {
+            sealValues(map);
+            sealed = true;
+        }
+
+        private void checkChangeable() {
+            if (sealed) throw new UnsupportedOperationException("Shared defaults can't be changed");
+        }
+
+        @Override
+        public void set(String path, Object value) {
+            checkChangeable();
+            super.set(path, value);
+        }
+
+        @Override
+        public ConfigurationSection createSection(String path) {
+            checkChangeable();
+            if (path.indexOf(options().pathSeparator()) != -1) return super.createSection(path);
+
+            ConfigurationSection section = new SharedSection(this, path);
+            map.put(path, section);
+            return section;
+        }
+
+        @Override
+        public void addDefault(String path, Object value) {
+            checkChangeable();
+            super.addDefault(path, value);
+        }
+
+        @Override
+        public void addDefaults(Map<String, Object> defaults) {
+            checkChangeable();
+            super.addDefaults(defaults);
+        }
+
+        @Override
+        public void addDefaults(Configuration defaults) {
+            checkChangeable();
+            super.addDefaults(defaults);
+        }
+
+        @Override
+        public void setDefaults(Configuration defaults) {
+            checkChangeable();
+            super.setDefaults(defaults);
+        }
+    }
+
+    /**
+     * A section of {@link SharedDefaults}, which can only be changed while its root is being loaded
+     */
+    private static class SharedSection extends MemorySection {
+
+        private SharedSection(ConfigurationSection parent, String path) {
+            super(parent, path);
+        }
+
+        private void seal() {
+            sealValues(map);
+        }
+
+        private void checkChangeable() {
+            ((SharedDefaults) getRoot()).checkChangeable();
+        }
+
+        @Override
+        public void set(String path, Object value) {
+            checkChangeable();
+            super.set(path, value);
+        }
+
+        @Override
+        public ConfigurationSection createSection(String path) {
+            checkChangeable();
+            if (path.indexOf(getRoot().options().pathSeparator()) != -1) return super.createSection(path);
+
+            ConfigurationSection section = new SharedSection(this, path);
+            map.put(path, section);
+            return section;
+        }
+    }
+}
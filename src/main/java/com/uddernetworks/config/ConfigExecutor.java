@@ -0,0 +1,39 @@
+package com.uddernetworks.config;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Holds the shared background thread used for off-thread config work
+ * @author RubbaBoy
+ */
+class ConfigExecutor {
+
+    private static ScheduledExecutorService executor;
+
+    private ConfigExecutor() {}
+
+    /**
+     * Gets the shared executor, creating it if it's not running
+     * @return The shared executor
+     */
+    static synchronized ScheduledExecutorService get() {
+        if (executor == null || executor.isShutdown()) {
+            executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "ConfigHelper Worker");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        return executor;
+    }
+
+    /**
+     * Stops the shared executor after any already queued tasks have ran
+     */
+    static synchronized void shutdown() {
+        if (executor != null) executor.shutdown();
+        executor = null;
+    }
+}
@@ -0,0 +1,158 @@
+package com.uddernetworks.config;
+
+/**
+ * A reusable handle to a single path of a Config, made by {@link Config#key(String, Class)}. The value is converted to
+ * the handle's type once and cached until the config is changed or reloaded, so repeated gets of the same path don't
+ * have to look up or convert anything. Once a section has been gotten from the config, the value is looked up on every
+ * get until the config is reloaded, as the section could be changed directly, but it's only converted again if it
+ * changed.
+ * @param <T> The type of the value
+ * @author RubbaBoy
+ */
+public class ConfigKey<T> {
+
+    private final Config config;
+    private final String path;
+    private final Class<T> type;
+    private final T def;
+    private volatile Resolved resolved;
+
+    ConfigKey(Config config, String path, Class<T> type, T def) {
+        this.config = config;
+        this.path = path;
+        this.type = type;
+        this.def = def;
+    }
+
+    /**
+     * Gets the config this key gets its value from
+     * @return The config
+     */
+    public Config getConfig() {
+        return config;
+    }
+
+    /**
+     * Gets the path this key gets its value from
+     * @return The path
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Gets the value at the key's path
+     * @return The value, or the key's default if it's not set or can't be converted to the key's type
+     */
+    public T get() {
+        return resolve().value;
+    }
+
+    /**
+     * Gets the value at the key's path as an int, without boxing it
+     * @return The value, or 0 if it's not a number
+     */
+    public int getAsInt() {
+        return (int) resolve().longValue;
+    }
+
+    /**
+     * Gets the value at the key's path as a long, without boxing it
+     * @return The value, or 0 if it's not a number
+     */
+    public long getAsLong() {
+        return resolve().longValue;
+    }
+
+    /**
+     * Gets the value at the key's path as a double, without boxing it
+     * @return The value, or 0 if it's not a number
+     */
+    public double getAsDouble() {
+        return resolve().doubleValue;
+    }
+
+    /**
+     * Gets the value at the key's path as a boolean, without boxing it
+     * @return The value, or false if it's not a boolean
+     */
+    public boolean getAsBoolean() {
+        return resolve().booleanValue;
+    }
+
+    /**
+     * Gets the cached value, converting it again if the config has been changed or reloaded since it was cached, or if
+     * the value changed through a section gotten from the config
+     * @return The cached value
+     */
+    private Resolved resolve() {
+        config.autoReload();
+
+        int version = config.getVersion();
+        Resolved current = resolved;
+        boolean valid = current != null && current.version == version;
+        if (valid && !config.isHandedOut()) return current;
+
+        Object raw = config.getWithoutReload(path);
+        if (valid && current.raw == raw) return current;
+
+        current = new Resolved(version, raw);
+        resolved = current;
+        return current;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T convert(Object value) {
+        Class<?> boxed = box(type);
+
+        if (value instanceof Number) {
+            Number number = (Number) value;
+            if (boxed == Integer.class) return (T) (Integer) number.intValue();
+            if (boxed == Long.class) return (T) (Long) number.longValue();
+            if (boxed == Double.class) return (T) (Double) number.doubleValue();
+            if (boxed == Float.class) return (T) (Float) number.floatValue();
+            if (boxed == Short.class) return (T) (Short) number.shortValue();
+            if (boxed == Byte.class) return (T) (Byte) number.byteValue();
+        }
+
+        if (boxed.isInstance(value)) return (T) value;
+        if (boxed == String.class && value != null) return (T) value.toString();
+        return def;
+    }
+
+    private static Class<?> box(Class<?> type) {
+        if (!type.isPrimitive()) return type;
+        if (type == int.class) return Integer.class;
+        if (type == long.class) return Long.class;
+        if (type == double.class) return Double.class;
+        if (type == float.class) return Float.class;
+        if (type == short.class) return Short.class;
+        if (type == byte.class) return Byte.class;
+        if (type == boolean.class) return Boolean.class;
+        if (type == char.class) return Character.class;
+        return Void.class;
+    }
+
+    /**
+     * A value converted for a single version of the config
+     */
+    private class Resolved {
+        private final int version;
+        private final Object raw;
+        private final T value;
+        private final long longValue;
+        private final double doubleValue;
+        private final boolean booleanValue;
+
+        Resolved(int version, Object raw) {
+            this.version = version;
+            this.raw = raw;
+            this.value = convert(raw);
+
+            Object source = raw instanceof Number || raw instanceof Boolean ? raw : value;
+            this.longValue = source instanceof Number ? ((Number) source).longValue() : 0;
+            this.doubleValue = source instanceof Number ? ((Number) source).doubleValue() : 0;
+            this.booleanValue = source instanceof Boolean && (Boolean) source;
+        }
+    }
+}
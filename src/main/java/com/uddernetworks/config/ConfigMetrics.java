@@ -0,0 +1,203 @@
+package com.uddernetworks.config;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters and timings of the work done by a Config, or by all Configs through {@link #getGlobal()}. All times are in
+ * nanoseconds.
+ * @author RubbaBoy
+ */
+public class ConfigMetrics {
+
+    private static final ConfigMetrics global = new ConfigMetrics(null);
+
+    private final ConfigMetrics parent;
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadTime = new LongAdder();
+    private final LongAdder parses = new LongAdder();
+    private final LongAdder parseTime = new LongAdder();
+    private final LongAdder reloads = new LongAdder();
+    private final LongAdder reloadTime = new LongAdder();
+    private final LongAdder saves = new LongAdder();
+    private final LongAdder skippedSaves = new LongAdder();
+    private final LongAdder savedBytes = new LongAdder();
+    private final LongAdder saveTime = new LongAdder();
+    private final LongAdder reads = new LongAdder();
+    private final LongAdder fieldUpdates = new LongAdder();
+    private final LongAdder fieldUpdateTime = new LongAdder();
+
+    ConfigMetrics() {
+        this(global);
+    }
+
+    private ConfigMetrics(ConfigMetrics parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * Gets the metrics of all Configs combined
+     * @return The global metrics
+     */
+    public static ConfigMetrics getGlobal() {
+        return global;
+    }
+
+    void recordLoad(long time) {
+        loads.increment();
+        loadTime.add(time);
+        if (parent != null) parent.recordLoad(time);
+    }
+
+    void recordParse(long time) {
+        parses.increment();
+        parseTime.add(time);
+        if (parent != null) parent.recordParse(time);
+    }
+
+    void recordReload(long time) {
+        reloads.increment();
+        reloadTime.add(time);
+        if (parent != null) parent.recordReload(time);
+    }
+
+    void recordSave(long bytes, long time) {
+        saves.increment();
+        savedBytes.add(bytes);
+        saveTime.add(time);
+        if (parent != null) parent.recordSave(bytes, time);
+    }
+
+    void recordSkippedSave(long time) {
+        skippedSaves.increment();
+        saveTime.add(time);
+        if (parent != null) parent.recordSkippedSave(time);
+    }
+
+    void recordRead() {
+        reads.increment();
+        if (parent != null) parent.recordRead();
+    }
+
+    void recordFieldUpdate(long time) {
+        fieldUpdates.increment();
+        fieldUpdateTime.add(time);
+        if (parent != null) parent.recordFieldUpdate(time);
+    }
+
+    /**
+     * @return The amount of times the config was initially loaded
+     */
+    public long getLoads() {
+        return loads.sum();
+    }
+
+    /**
+     * @return The total time spent initially loading the config, including creating its file
+     */
+    public long getLoadTime() {
+        return loadTime.sum();
+    }
+
+    /**
+     * @return The amount of times the config file was parsed
+     */
+    public long getParses() {
+        return parses.sum();
+    }
+
+    /**
+     * @return The total time spent parsing the config file
+     */
+    public long getParseTime() {
+        return parseTime.sum();
+    }
+
+    /**
+     * @return The amount of times the config was reloaded
+     */
+    public long getReloads() {
+        return reloads.sum();
+    }
+
+    /**
+     * @return The total time spent reloading the config
+     */
+    public long getReloadTime() {
+        return reloadTime.sum();
+    }
+
+    /**
+     * @return The amount of times the config file was written
+     */
+    public long getSaves() {
+        return saves.sum();
+    }
+
+    /**
+     * @return The amount of saves that weren't written as nothing had changed
+     */
+    public long getSkippedSaves() {
+        return skippedSaves.sum();
+    }
+
+    /**
+     * @return The total amount of bytes written to the config file
+     */
+    public long getSavedBytes() {
+        return savedBytes.sum();
+    }
+
+    /**
+     * @return The total time spent saving the config, including skipped saves
+     */
+    public long getSaveTime() {
+        return saveTime.sum();
+    }
+
+    /**
+     * @return The amount of values and keys gotten from the config
+     */
+    public long getReads() {
+        return reads.sum();
+    }
+
+    /**
+     * @return The amount of times annotation-bound fields were updated
+     */
+    public long getFieldUpdates() {
+        return fieldUpdates.sum();
+    }
+
+    /**
+     * @return The total time spent updating annotation-bound fields
+     */
+    public long getFieldUpdateTime() {
+        return fieldUpdateTime.sum();
+    }
+
+    /**
+     * Resets all metrics to zero. Resetting a config's metrics doesn't change the global metrics.
+     */
+    public void reset() {
+        for (LongAdder adder : new LongAdder[] {loads, loadTime, parses, parseTime, reloads, reloadTime, saves,
+                skippedSaves, savedBytes, saveTime, reads, fieldUpdates, fieldUpdateTime}) {
+            adder.reset();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ConfigMetrics{loads=" + getLoads() + " (" + millis(getLoadTime()) + "ms)"
+                + ", parses=" + getParses() + " (" + millis(getParseTime()) + "ms)"
+                + ", reloads=" + getReloads() + " (" + millis(getReloadTime()) + "ms)"
+                + ", saves=" + getSaves() + " (" + getSavedBytes() + " bytes, " + millis(getSaveTime()) + "ms)"
+                + ", skippedSaves=" + getSkippedSaves()
+                + ", reads=" + getReads()
+                + ", fieldUpdates=" + getFieldUpdates() + " (" + millis(getFieldUpdateTime()) + "ms)}";
+    }
+
+    private static long millis(long time) {
+        return TimeUnit.NANOSECONDS.toMillis(time);
+    }
+}
@@ -1,12 +1,30 @@
 package com.uddernetworks.config;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 public class ConfigOptions {
 
     private boolean enableAutoReload = false;
     private boolean enableAutoSave = false;
+    private boolean enableAsyncSave = false;
+    private long saveInterval = 1000;
+    private boolean enableFsync = false;
+    private boolean enableChangeDetection = false;
+    private long reloadInterval = 0;
+    private boolean enableWatchReload = false;
+    private long watchDelay = 100;
+    private boolean enableLazyLoad = false;
+    private boolean enableSnapshots = false;
+    private boolean enablePathIndex = false;
     private String setDefaults = null;
+    private boolean enableSharedDefaults = false;
+    private boolean enableDeltaSave = false;
+    private boolean enableBinaryCache = false;
+    private boolean enablePartialLoad = false;
+    private List<String> loadPaths = new ArrayList<>();
     private File defaultLocation = null;
 
     public ConfigOptions() {}
@@ -14,7 +32,22 @@ public class ConfigOptions {
     public ConfigOptions(ConfigOptions configOptions) {
         this.enableAutoReload = configOptions.enableAutoReload;
         this.enableAutoSave = configOptions.enableAutoSave;
+        this.enableAsyncSave = configOptions.enableAsyncSave;
+        this.saveInterval = configOptions.saveInterval;
+        this.enableFsync = configOptions.enableFsync;
+        this.enableChangeDetection = configOptions.enableChangeDetection;
+        this.reloadInterval = configOptions.reloadInterval;
+        this.enableWatchReload = configOptions.enableWatchReload;
+        this.watchDelay = configOptions.watchDelay;
+        this.enableLazyLoad = configOptions.enableLazyLoad;
+        this.enableSnapshots = configOptions.enableSnapshots;
+        this.enablePathIndex = configOptions.enablePathIndex;
         this.setDefaults = configOptions.setDefaults;
+        this.enableSharedDefaults = configOptions.enableSharedDefaults;
+        this.enableDeltaSave = configOptions.enableDeltaSave;
+        this.enableBinaryCache = configOptions.enableBinaryCache;
+        this.enablePartialLoad = configOptions.enablePartialLoad;
+        this.loadPaths = new ArrayList<>(configOptions.loadPaths);
     }
 
     /**
@@ -51,6 +84,189 @@ public class ConfigOptions {
         return this;
     }
 
+    /**
+     * @return If async save is enabled for auto save
+     */
+    public boolean getEnableAsyncSave() {
+        return enableAsyncSave;
+    }
+
+    /**
+     * Makes auto save only mark the config as changed, and save it in the background at most once per save interval.
+     * {@link Config#close()} should be called when the plugin is disabled so no changes are lost.
+     * @param enableAsyncSave Weather async save should be enabled
+     * @return The current ConfigOptions object
+     */
+    public ConfigOptions enableAsyncSave(boolean enableAsyncSave) {
+        this.enableAsyncSave = enableAsyncSave;
+        return this;
+    }
+
+    /**
+     * @return The amount of milliseconds changes are collected for before an async save
+     */
+    public long getSaveInterval() {
+        return saveInterval;
+    }
+
+    /**
+     * Sets how long in milliseconds changes are collected for after the first one before they're saved in the
+     * background. Only used when async save is enabled.
+     * @param saveInterval The interval in milliseconds
+     * @return The current ConfigOptions object
+     */
+    public ConfigOptions setSaveInterval(long saveInterval) {
+        this.saveInterval = saveInterval;
+        return this;
+    }
+
+    /**
+     * @return If saves are forced to disk before replacing the config file
+     */
+    public boolean getEnableFsync() {
+        return enableFsync;
+    }
+
+    /**
+     * Forces saved data to be written to the disk before it replaces the config file, so a power loss right after a
+     * save can't leave an empty file behind. This makes saves slower.
+     * @param enableFsync Weather saves should be forced to disk
+     * @return The current ConfigOptions object
+     */
+    public ConfigOptions enableFsync(boolean enableFsync) {
+        this.enableFsync = enableFsync;
+        return this;
+    }
+
+    /**
+     * @return If change detection is enabled for auto reload
+     */
+    public boolean getEnableChangeDetection() {
+        return enableChangeDetection;
+    }
+
+    /**
+     * Makes auto reload only re-parse the config when the file's last modified time or size has changed since it was
+     * last loaded or saved, instead of on every get
+     * @param enableChangeDetection Weather change detection should be enabled
+     * @return The current ConfigOptions object
+     */
+    public ConfigOptions enableChangeDetection(boolean enableChangeDetection) {
+        this.enableChangeDetection = enableChangeDetection;
+        return this;
+    }
+
+    /**
+     * @return The amount of milliseconds a change detection check is trusted for
+     */
+    public long getReloadInterval() {
+        return reloadInterval;
+    }
+
+    /**
+     * Sets how long in milliseconds the result of a change detection check is trusted for, so gets within this window
+     * don't touch the file at all. Only used when change detection is enabled.
+     * @param reloadInterval The interval in milliseconds, 0 to check on every get
+     * @return The current ConfigOptions object
+     */
+    public ConfigOptions setReloadInterval(long reloadInterval) {
+        this.reloadInterval = reloadInterval;
+        return this;
+    }
+
+    /**
+     * @return If watch reload is enabled
+     */
+    public boolean getEnableWatchReload() {
+        return enableWatchReload;
+    }
+
+    /**
+     * Watches the config file in the background once initialized, and reloads it off the main thread when it's changed
+     * on disk. Gets then never touch the file, so auto reload is not used while this is enabled.
+     * @param enableWatchReload Weather watch reload should be enabled
+     * @return The current ConfigOptions object
+     */
+    public ConfigOptions enableWatchReload(boolean enableWatchReload) {
+        this.enableWatchReload = enableWatchReload;
+        return this;
+    }
+
+    /**
+     * @return The amount of milliseconds to wait after a file change before reloading
+     */
+    public long getWatchDelay() {
+        return watchDelay;
+    }
+
+    /**
+     * Sets how long in milliseconds the watcher waits after the last change to the file before reloading it, so many
+     * changes in a row only cause one reload. Only used when watch reload is enabled.
+     * @param watchDelay The delay in milliseconds
+     * @return The current ConfigOptions object
+     */
+    public ConfigOptions setWatchDelay(long watchDelay) {
+        this.watchDelay = watchDelay;
+        return this;
+    }
+
+    /**
+     * @return If lazy load is enabled
+     */
+    public boolean getEnableLazyLoad() {
+        return enableLazyLoad;
+    }
+
+    /**
+     * Makes {@link Config#initialize(Object)} only resolve the config's file, and creates and loads it the first time
+     * the config is used instead. Annotated fields are updated and watch reload is started at that point too.
+     * @param enableLazyLoad Weather lazy load should be enabled
+     * @return The current ConfigOptions object
+     */
+    public ConfigOptions enableLazyLoad(boolean enableLazyLoad) {
+        this.enableLazyLoad = enableLazyLoad;
+        return this;
+    }
+
+    /**
+     * @return If snapshots are enabled
+     */
+    public boolean getEnableSnapshots() {
+        return enableSnapshots;
+    }
+
+    /**
+     * Makes every change to the config copy it, change the copy and then replace the config with it, so gets from any
+     * thread always see a complete config without locking. This makes changes slower, so it's best for configs that
+     * are read far more than they're changed. Sections gotten from the config should not be changed directly.
+     * @param enableSnapshots Weather snapshots should be enabled
+     * @return The current ConfigOptions object
+     */
+    public ConfigOptions enableSnapshots(boolean enableSnapshots) {
+        this.enableSnapshots = enableSnapshots;
+        return this;
+    }
+
+    /**
+     * @return If the path index is enabled
+     */
+    public boolean getEnablePathIndex() {
+        return enablePathIndex;
+    }
+
+    /**
+     * Keeps an index of every full path in the config to its value, built when the config is loaded and updated when
+     * it's changed, so common gets such as {@link Config#getString(String)} or {@link Config#getInt(String)} are a
+     * single lookup. Uses more memory per config. Values from defaults aren't indexed, and once a section is gotten
+     * from the config, the index isn't used for the paths under it until the config is reloaded, as changes made
+     * directly to the section don't update the index.
+     * @param enablePathIndex Weather the path index should be enabled
+     * @return The current ConfigOptions object
+     */
+    public ConfigOptions enablePathIndex(boolean enablePathIndex) {
+        this.enablePathIndex = enablePathIndex;
+        return this;
+    }
 
     /**
      * @return Gets the name of the file which the config is getting defaults from
@@ -60,7 +276,9 @@ public class ConfigOptions {
     }
 
     /**
-     * Sets the defaults of the current config to the internal config labeled by its name (With .yml extension)
+     * Sets the defaults of the current config to the internal config labeled by its name (With .yml extension). The
+     * defaults are copied into and set on the config when its file is created. Configs with an existing file only get
+     * the defaults if shared defaults or delta saving are enabled.
      * @param setDefaults Name of internal config to set defaults of
      * @return The current ConfigOptions object
      */
@@ -69,6 +287,98 @@ public class ConfigOptions {
         return this;
     }
 
+    /**
+     * @return If shared defaults are enabled
+     */
+    public boolean getEnableSharedDefaults() {
+        return enableSharedDefaults;
+    }
+
+    /**
+     * Makes the config only keep the values that differ from its defaults in memory, and get the rest from the
+     * defaults set by {@link #setDefaults(String)}, which are shared by every config using them. Gets, keys and saves
+     * still include the values of the defaults.
+     * @param enableSharedDefaults Weather shared defaults should be enabled
+     * @return The current ConfigOptions object
+     */
+    public ConfigOptions enableSharedDefaults(boolean enableSharedDefaults) {
+        this.enableSharedDefaults = enableSharedDefaults;
+        return this;
+    }
+
+    /**
+     * @return If delta saving is enabled
+     */
+    public boolean getEnableDeltaSave() {
+        return enableDeltaSave;
+    }
+
+    /**
+     * Makes the config only save the values that differ from the defaults set by {@link #setDefaults(String)}, so new
+     * files start out empty instead of as a copy of the defaults. Gets and keys still include the values of the
+     * defaults.
+     * @param enableDeltaSave Weather delta saving should be enabled
+     * @return The current ConfigOptions object
+     */
+    public ConfigOptions enableDeltaSave(boolean enableDeltaSave) {
+        this.enableDeltaSave = enableDeltaSave;
+        return this;
+    }
+
+    /**
+     * @return If the binary cache is enabled
+     */
+    public boolean getEnableBinaryCache() {
+        return enableBinaryCache;
+    }
+
+    /**
+     * Makes the config keep its parsed contents in a binary file next to it, which is loaded instead of parsing the
+     * config again as long as the config hasn't changed.
+     * @param enableBinaryCache Weather the binary cache should be enabled
+     * @return The current ConfigOptions object
+     */
+    public ConfigOptions enableBinaryCache(boolean enableBinaryCache) {
+        this.enableBinaryCache = enableBinaryCache;
+        return this;
+    }
+
+    /**
+     * @return If partial loading is enabled
+     */
+    public boolean getEnablePartialLoad() {
+        return enablePartialLoad;
+    }
+
+    /**
+     * Makes the config only load the paths added with {@link #addLoadPaths(String...)} and the paths of its
+     * annotation-bound fields, skipping the rest of the file while it's read. Partially loaded configs can't be saved,
+     * as that would remove everything that wasn't loaded from the file.
+     * @param enablePartialLoad Weather partial loading should be enabled
+     * @return The current ConfigOptions object
+     */
+    public ConfigOptions enablePartialLoad(boolean enablePartialLoad) {
+        this.enablePartialLoad = enablePartialLoad;
+        return this;
+    }
+
+    /**
+     * @return The paths loaded when partial loading is enabled
+     */
+    public List<String> getLoadPaths() {
+        return loadPaths;
+    }
+
+    /**
+     * Adds paths to load when partial loading is enabled, which are loaded with everything under them
+     * @param loadPaths The paths to load
+     * @return The current ConfigOptions object
+     */
+    public ConfigOptions addLoadPaths(String... loadPaths) {
+        this.loadPaths.addAll(Arrays.asList(loadPaths));
+        return this;
+    }
+
     /**
      * @return The default location to create/get configs in
      */
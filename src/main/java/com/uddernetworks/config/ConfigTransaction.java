@@ -0,0 +1,248 @@
+package com.uddernetworks.config;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.util.*;
+
+/**
+ * A set of changes made to a Config through {@link Config#batch(java.util.function.Consumer)}, which are saved and
+ * update annotated fields only once all of them have been made. Changes are only recorded while the transaction is
+ * open, and are made to the config all at once after it's closed. A transaction can't be used once its batch is done.
+ * @author RubbaBoy
+ */
+public class ConfigTransaction {
+
+    private Config config;
+    private YamlConfiguration configuration;
+    private PathIndex pathIndex;
+    private YamlConfiguration working;
+    private List<Operation> operations = new ArrayList<>();
+    private Set<ConfigurationSection> created = Collections.newSetFromMap(new IdentityHashMap<>());
+    private Map<String, Object> changes = new LinkedHashMap<>();
+    private Map<String, Object> previous;
+    private boolean closed;
+
+    ConfigTransaction(Config config) {
+        this.config = config;
+    }
+
+    /**
+     * Gets a value from the config, including changes already made in this transaction. Values are read from a copy
+     * of the config made by the first get or section creation, so changes made to the config by others after that
+     * aren't seen.
+     * @param path The path of the value
+     * @return The value, or null if it's not set
+     */
+    public Object get(String path) {
+        checkOpen();
+        return working().get(path);
+    }
+
+    /**
+     * Sets a value in the config
+     * @param path The path of the value
+     * @param value The value to set, or null to remove it
+     */
+    public void set(String path, Object value) {
+        checkOpen();
+        changes.put(path, value);
+        if (working != null) working.set(path, value);
+
+        // Values set in a section created by this transaction are made along with the section
+        if (!isCreated(path)) operations.add(new Operation(path, value, null));
+    }
+
+    /**
+     * Creates an empty section in the config
+     * @param path The path of the section
+     * @return The created section
+     */
+    public ConfigurationSection createSection(String path) {
+        checkOpen();
+        return addSection(path, working().createSection(path));
+    }
+
+    /**
+     * Creates a section in the config with the given values
+     * @param path The path of the section
+     * @param map The values of the section
+     * @return The created section
+     */
+    public ConfigurationSection createSection(String path, Map<?, ?> map) {
+        checkOpen();
+        return addSection(path, working().createSection(path, map));
+    }
+
+    private ConfigurationSection addSection(String path, ConfigurationSection section) {
+        changes.put(path, section);
+        if (!isCreated(path)) {
+            operations.add(new Operation(path, null, section));
+            created.add(section);
+        }
+
+        return section;
+    }
+
+    /**
+     * Creates a section without copying the config to read from, for transactions which are applied right away and
+     * never hand out the section
+     * @param path The path of the section
+     * @param map The values of the section, or null if it's empty
+     */
+    void stageSection(String path, Map<?, ?> map) {
+        ConfigurationSection section = new YamlConfiguration();
+        if (map != null) section = section.createSection("section", map);
+        changes.put(path, section);
+        operations.add(new Operation(path, null, section));
+    }
+
+    /**
+     * Checks if a path is inside a section created by this transaction, which still is in the transaction's copy of
+     * the config
+     * @param path The path to check
+     * @return If the path is inside a created section
+     */
+    private boolean isCreated(String path) {
+        if (created.isEmpty()) return false;
+
+        char separator = working.options().pathSeparator();
+        for (int end = path.indexOf(separator); end != -1; end = path.indexOf(separator, end + 1)) {
+            Object value = working.get(path.substring(0, end), null);
+            if (value instanceof ConfigurationSection && created.contains(value)) return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Gets the copy of the config the transaction reads from, copying it and making the changes already recorded to
+     * it if it hasn't been used yet
+     * @return The copy of the config
+     */
+    private YamlConfiguration working() {
+        if (working == null) {
+            working = config.copyCurrentConfiguration();
+            for (Operation operation : operations) {
+                if (operation.section != null) {
+                    working.createSection(operation.path, toMap(operation.section));
+                } else {
+                    working.set(operation.path, operation.value);
+                }
+            }
+        }
+
+        return working;
+    }
+
+    private void checkOpen() {
+        if (closed) throw new IllegalStateException("The transaction has already been closed");
+    }
+
+    /**
+     * Stops any more changes being recorded
+     */
+    void close() {
+        closed = true;
+    }
+
+    /**
+     * Makes all recorded changes to the config, in the order they were recorded. Should only be ran while holding the
+     * write lock.
+     * @param recordPrevious If the values changed paths had before the transaction should be remembered
+     */
+    void apply(boolean recordPrevious) {
+        if (recordPrevious) {
+            YamlConfiguration current = config.getCurrentConfiguration();
+            previous = new LinkedHashMap<>();
+            changes.keySet().forEach(path -> previous.put(path, current.get(path, null)));
+        }
+
+        for (Operation operation : operations) {
+            if (operation.section != null) {
+                ConfigurationSection section = write(operation.path).createSection(operation.path, toMap(operation.section));
+                if (pathIndex != null) pathIndex.put(operation.path, section);
+            } else if (!Objects.equals(read().get(operation.path, null), operation.value)) {
+                write(operation.path).set(operation.path, operation.value);
+                if (pathIndex != null) pathIndex.put(operation.path, operation.value);
+            }
+        }
+
+        // Sections are given out as they ended up in the config, instead of the transaction's copies of them
+        YamlConfiguration result = read();
+        changes.replaceAll((path, value) -> value instanceof ConfigurationSection ? result.get(path, null) : value);
+        if (previous != null) {
+            previous.entrySet().removeIf(entry -> Objects.equals(entry.getValue(), changes.get(entry.getKey())));
+        }
+    }
+
+    private YamlConfiguration read() {
+        return configuration != null ? configuration : config.getCurrentConfiguration();
+    }
+
+    /**
+     * Gets the configuration to make a change to the given path in
+     * @param path The path about to be changed
+     * @return The configuration to change
+     */
+    private YamlConfiguration write(String path) {
+        if (configuration == null) {
+            configuration = config.beginWrite();
+            pathIndex = config.beginIndexWrite();
+        }
+
+        if (pathIndex != null) pathIndex.remove(configuration, path);
+        return configuration;
+    }
+
+    private static Map<String, Object> toMap(ConfigurationSection section) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        section.getValues(false).forEach((key, value) -> map.put(key, value instanceof ConfigurationSection ? toMap((ConfigurationSection) value) : value));
+        return map;
+    }
+
+    /**
+     * @return If anything in the config was changed
+     */
+    boolean isChanged() {
+        return configuration != null;
+    }
+
+    YamlConfiguration getConfiguration() {
+        return configuration;
+    }
+
+    PathIndex getPathIndex() {
+        return pathIndex;
+    }
+
+    /**
+     * @return The values changed paths had before the transaction, or null if they weren't recorded
+     */
+    Map<String, Object> getPrevious() {
+        return previous;
+    }
+
+    /**
+     * @return All set paths and their values, in the order they were first set
+     */
+    Map<String, Object> getChanges() {
+        return changes;
+    }
+
+    /**
+     * A recorded change, which either sets a value or creates a section with the values of the given one
+     */
+    private static class Operation {
+
+        private final String path;
+        private final Object value;
+        private final ConfigurationSection section;
+
+        private Operation(String path, Object value, ConfigurationSection section) {
+            this.path = path;
+            this.value = value;
+            this.section = section;
+        }
+    }
+}
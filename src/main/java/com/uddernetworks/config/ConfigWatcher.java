@@ -0,0 +1,160 @@
+package com.uddernetworks.config;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.*;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A single shared daemon that watches the folders of every Config with watch reload enabled, and reloads them in the
+ * background when their file is changed on disk.
+ * @author RubbaBoy
+ */
+public class ConfigWatcher {
+
+    private static WatchService watchService;
+    private static Thread thread;
+    private static Map<Path, WatchKey> directories = new HashMap<>();
+    private static Map<Path, List<Config>> configs = new HashMap<>();
+    private static Map<Path, ScheduledFuture<?>> pending = new HashMap<>();
+
+    private ConfigWatcher() {}
+
+    /**
+     * Starts watching the given config's file, starting the watcher thread if it's not running
+     * @param config The initialized config to watch
+     */
+    static synchronized void register(Config config) {
+        try {
+            if (watchService == null) {
+                WatchService service = FileSystems.getDefault().newWatchService();
+                watchService = service;
+                thread = new Thread(() -> run(service), "ConfigHelper Watcher");
+                thread.setDaemon(true);
+                thread.start();
+            }
+
+            Path file = getPath(config);
+            Path directory = file.getParent();
+            if (!directories.containsKey(directory)) {
+                directories.put(directory, directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY));
+            }
+
+            List<Config> fileConfigs = configs.computeIfAbsent(file, key -> new ArrayList<>());
+            if (!fileConfigs.contains(config)) fileConfigs.add(config);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Stops watching the given config's file, no longer watching its folder if no other configs are in it
+     * @param config The config to stop watching
+     */
+    static synchronized void unregister(Config config) {
+        if (config.getConfigFile() == null) return;
+        Path file = getPath(config);
+        List<Config> fileConfigs = configs.get(file);
+        if (fileConfigs == null || !fileConfigs.remove(config) || !fileConfigs.isEmpty()) return;
+
+        configs.remove(file);
+        ScheduledFuture<?> future = pending.remove(file);
+        if (future != null) future.cancel(false);
+
+        Path directory = file.getParent();
+        if (configs.keySet().stream().noneMatch(watched -> watched.getParent().equals(directory))) {
+            WatchKey key = directories.remove(directory);
+            if (key != null) key.cancel();
+        }
+    }
+
+    /**
+     * Stops the watcher thread and the shared background thread, and forgets all watched configs, which go back to
+     * auto reloading if it's enabled. Should be ran when the plugin is disabled.
+     */
+    public static synchronized void shutdown() {
+        pending.values().forEach(future -> future.cancel(false));
+        pending.clear();
+        configs.values().forEach(fileConfigs -> fileConfigs.forEach(Config::stopWatching));
+        configs.clear();
+        directories.clear();
+
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+
+        watchService = null;
+        thread = null;
+        // Saves already queued still run before the thread stops
+        ConfigExecutor.shutdown();
+    }
+
+    private static Path getPath(Config config) {
+        return config.getConfigFile().toPath().toAbsolutePath().normalize();
+    }
+
+    private static void run(WatchService service) {
+        try {
+            while (true) {
+                WatchKey key = service.take();
+                Path directory = (Path) key.watchable();
+
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        scheduleDirectory(directory);
+                    } else {
+                        schedule(directory.resolve((Path) event.context()));
+                    }
+                }
+
+                key.reset();
+            }
+        } catch (InterruptedException | ClosedWatchServiceException ignored) {
+        }
+    }
+
+    private static synchronized void scheduleDirectory(Path directory) {
+        new ArrayList<>(configs.keySet()).stream()
+                .filter(file -> file.getParent().equals(directory))
+                .forEach(ConfigWatcher::schedule);
+    }
+
+    /**
+     * Reloads the configs of the given file once no more changes have been made to it for their watch delay, so a
+     * burst of events from a single save only causes one reload
+     * @param file The changed file
+     */
+    private static synchronized void schedule(Path file) {
+        List<Config> fileConfigs = configs.get(file);
+        if (fileConfigs == null) return;
+
+        ScheduledFuture<?> future = pending.get(file);
+        if (future != null) future.cancel(false);
+
+        long delay = fileConfigs.stream().mapToLong(config -> config.getOptions().getWatchDelay()).max().orElse(0);
+        pending.put(file, ConfigExecutor.get().schedule(() -> reload(file), delay, TimeUnit.MILLISECONDS));
+    }
+
+    private static void reload(Path file) {
+        List<Config> fileConfigs;
+        synchronized (ConfigWatcher.class) {
+            pending.remove(file);
+            fileConfigs = configs.get(file);
+            if (fileConfigs == null) return;
+            fileConfigs = new ArrayList<>(fileConfigs);
+        }
+
+        fileConfigs.forEach(Config::watchReload);
+    }
+}
@@ -0,0 +1,174 @@
+package com.uddernetworks.config;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A precompiled setter for a single {@link ConfigSync} field, shared by every registered instance of its class
+ * @author RubbaBoy
+ */
+class FieldBinding {
+
+    private static final Object INVALID = new Object();
+
+    private static final ClassValue<List<FieldBinding>> bindings = new ClassValue<List<FieldBinding>>() {
+        @Override
+        protected List<FieldBinding> computeValue(Class<?> clazz) {
+            List<FieldBinding> classBindings = new ArrayList<>();
+            if (clazz.getSuperclass() != null) classBindings.addAll(get(clazz.getSuperclass()));
+
+            for (Field field : clazz.getDeclaredFields()) {
+                ConfigSync configSync = field.getAnnotation(ConfigSync.class);
+                if (configSync == null) continue;
+                field.setAccessible(true);
+                classBindings.add(new FieldBinding(field, configSync.config(), configSync.path()));
+            }
+
+            return Collections.unmodifiableList(classBindings);
+        }
+    };
+
+    private Field field;
+    private String config;
+    private String path;
+    private Class<?> type;
+    private boolean stringList;
+    private MethodHandle setter;
+
+    private FieldBinding(Field field, String config, String path) {
+        this.field = field;
+        this.config = config;
+        this.path = path;
+        this.type = field.getType();
+        this.stringList = List.class.isAssignableFrom(type) && getTypeArgument(field) == String.class;
+
+        try {
+            MethodType setterType = MethodType.methodType(void.class, Object.class, type.isPrimitive() ? type : Object.class);
+            MethodHandle setter = MethodHandles.lookup().unreflectSetter(field);
+            // Static setters take no instance, so they're given one to ignore to be called like any other setter
+            if (Modifier.isStatic(field.getModifiers())) setter = MethodHandles.dropArguments(setter, 0, Object.class);
+            this.setter = setter.asType(setterType);
+        } catch (IllegalAccessException e) {
+            // Fields a setter can't be made for (Such as final fields) are set through reflection instead
+            this.setter = null;
+        }
+    }
+
+    /**
+     * Gets the bindings of all {@link ConfigSync} fields of a class, including the ones of its superclasses. These are
+     * only looked up once per class.
+     * @param clazz The class to get the bindings of
+     * @return The bindings of the class
+     */
+    static List<FieldBinding> forClass(Class<?> clazz) {
+        return bindings.get(clazz);
+    }
+
+    Field getField() {
+        return field;
+    }
+
+    String getConfig() {
+        return config;
+    }
+
+    String getPath() {
+        return path;
+    }
+
+    /**
+     * Sets the field of the instance to the given value, converting it to the field's type if needed. Primitive
+     * fields are set without boxing. Values that can't be converted leave the field unchanged.
+     * @param instance The instance to set the field of
+     * @param value The value to set
+     */
+    void set(Object instance, Object value) {
+        try {
+            if (type == int.class) {
+                if (!(value instanceof Number)) return;
+                int converted = ((Number) value).intValue();
+                if (setter != null) setter.invokeExact(instance, converted); else field.setInt(instance, converted);
+            } else if (type == long.class) {
+                if (!(value instanceof Number)) return;
+                long converted = ((Number) value).longValue();
+                if (setter != null) setter.invokeExact(instance, converted); else field.setLong(instance, converted);
+            } else if (type == double.class) {
+                if (!(value instanceof Number)) return;
+                double converted = ((Number) value).doubleValue();
+                if (setter != null) setter.invokeExact(instance, converted); else field.setDouble(instance, converted);
+            } else if (type == float.class) {
+                if (!(value instanceof Number)) return;
+                float converted = ((Number) value).floatValue();
+                if (setter != null) setter.invokeExact(instance, converted); else field.setFloat(instance, converted);
+            } else if (type == short.class) {
+                if (!(value instanceof Number)) return;
+                short converted = ((Number) value).shortValue();
+                if (setter != null) setter.invokeExact(instance, converted); else field.setShort(instance, converted);
+            } else if (type == byte.class) {
+                if (!(value instanceof Number)) return;
+                byte converted = ((Number) value).byteValue();
+                if (setter != null) setter.invokeExact(instance, converted); else field.setByte(instance, converted);
+            } else if (type == boolean.class) {
+                if (!(value instanceof Boolean)) return;
+                boolean converted = (Boolean) value;
+                if (setter != null) setter.invokeExact(instance, converted); else field.setBoolean(instance, converted);
+            } else if (type == char.class) {
+                if (!(value instanceof Character) && !(value instanceof String && ((String) value).length() == 1)) return;
+                char converted = value instanceof Character ? (Character) value : ((String) value).charAt(0);
+                if (setter != null) setter.invokeExact(instance, converted); else field.setChar(instance, converted);
+            } else {
+                Object converted = convert(value);
+                if (converted == INVALID) return;
+                if (setter != null) setter.invokeExact(instance, converted); else field.set(instance, converted);
+            }
+        } catch (Throwable e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Converts the given value to the field's non-primitive type
+     * @param value The value to convert
+     * @return The converted value, or {@link #INVALID} if it can't be converted
+     */
+    private Object convert(Object value) {
+        if (stringList && value instanceof List) {
+            List<String> strings = new ArrayList<>();
+            for (Object element : (List<?>) value) strings.add(element == null ? null : element.toString());
+            return strings;
+        }
+
+        if (value == null || type.isInstance(value)) return value;
+
+        if (value instanceof Number) {
+            Number number = (Number) value;
+            if (type == Integer.class) return number.intValue();
+            if (type == Long.class) return number.longValue();
+            if (type == Double.class) return number.doubleValue();
+            if (type == Float.class) return number.floatValue();
+            if (type == Short.class) return number.shortValue();
+            if (type == Byte.class) return number.byteValue();
+        }
+
+        if (type == String.class && (value instanceof Number || value instanceof Boolean || value instanceof Character)) {
+            return value.toString();
+        }
+
+        return INVALID;
+    }
+
+    private static Type getTypeArgument(Field field) {
+        Type genericType = field.getGenericType();
+        if (!(genericType instanceof ParameterizedType)) return null;
+        Type[] arguments = ((ParameterizedType) genericType).getActualTypeArguments();
+        return arguments.length == 1 ? arguments[0] : null;
+    }
+}
@@ -0,0 +1,231 @@
+package com.uddernetworks.config;
+
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.emitter.Emitter;
+import org.yaml.snakeyaml.events.AliasEvent;
+import org.yaml.snakeyaml.events.CollectionEndEvent;
+import org.yaml.snakeyaml.events.CollectionStartEvent;
+import org.yaml.snakeyaml.events.Event;
+import org.yaml.snakeyaml.events.MappingEndEvent;
+import org.yaml.snakeyaml.events.MappingStartEvent;
+import org.yaml.snakeyaml.events.NodeEvent;
+import org.yaml.snakeyaml.events.ScalarEvent;
+import org.yaml.snakeyaml.nodes.NodeId;
+import org.yaml.snakeyaml.nodes.Tag;
+import org.yaml.snakeyaml.resolver.Resolver;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Loads only the requested paths of a config file, streaming through its YAML events and only keeping the events of
+ * the requested paths. The kept events are then loaded like a full file, so values are constructed exactly as they
+ * would be without partial loading. Skipped values with anchors are kept in case they're aliased by a loaded value,
+ * and merge keys are always loaded. If the file can't be loaded partially, it's fully loaded instead.
+ * @author RubbaBoy
+ */
+class PartialLoader {
+
+    private enum Match {
+        NONE, PARENT, FULL
+    }
+
+    private final Collection<String> paths;
+    private final char separator;
+    private final Resolver resolver = new Resolver();
+    private final List<Event> output = new ArrayList<>();
+    private final Set<String> anchors = new HashSet<>();
+    private final Map<String, List<Event>> skipped = new HashMap<>();
+    private Iterator<Event> events;
+
+    private PartialLoader(Collection<String> paths, char separator) {
+        this.paths = paths;
+        this.separator = separator;
+    }
+
+    /**
+     * Loads the given paths of a config file, and everything under them
+     * @param file The config file
+     * @param paths The paths to load
+     * @return The configuration holding only the loaded paths, or all of the file if it couldn't be loaded partially
+     */
+    static YamlConfiguration load(File file, Collection<String> paths) {
+        YamlConfiguration configuration = new YamlConfiguration();
+        PartialLoader loader = new PartialLoader(paths, configuration.options().pathSeparator());
+
+        try (Reader reader = new InputStreamReader(Files.newInputStream(file.toPath()), StandardCharsets.UTF_8)) {
+            loader.events = new Yaml().parse(reader).iterator();
+            loader.readStream();
+            configuration.loadFromString(loader.emit());
+            return configuration;
+        } catch (IOException | InvalidConfigurationException | RuntimeException e) {
+            // A partially read file could be missing loaded values, so it's loaded the same way as without partial loading
+            e.printStackTrace();
+            return YamlConfiguration.loadConfiguration(file);
+        }
+    }
+
+    private Match match(String path) {
+        for (String loadPath : paths) {
+            if (path.equals(loadPath) || path.startsWith(loadPath + separator)) return Match.FULL;
+        }
+
+        for (String loadPath : paths) {
+            if (loadPath.startsWith(path + separator)) return Match.PARENT;
+        }
+
+        return Match.NONE;
+    }
+
+    /**
+     * Keeps the stream and document events, and the requested paths of the top level mapping
+     */
+    private void readStream() {
+        while (events.hasNext()) {
+            Event event = events.next();
+            if (event instanceof MappingStartEvent) {
+                output.add(event);
+                readSection("");
+            } else if (event instanceof NodeEvent) {
+                copy(event, events);
+            } else {
+                output.add(event);
+            }
+        }
+    }
+
+    /**
+     * Keeps the requested paths of a mapping whose start event has already been kept, and its end event
+     * @param prefix The path of the mapping
+     */
+    private void readSection(String prefix) {
+        Event key;
+        while (!((key = events.next()) instanceof MappingEndEvent)) {
+            Event value = events.next();
+            Match match = Match.NONE;
+            String path = null;
+            if (isMerge(key)) {
+                match = Match.FULL;
+            } else if (key instanceof ScalarEvent) {
+                String name = ((ScalarEvent) key).getValue();
+                path = prefix.isEmpty() ? name : prefix + separator + name;
+                match = match(path);
+            }
+
+            // Anchored sections could be aliased somewhere that needs all of them, so they're never partly kept
+            if (match == Match.PARENT && value instanceof MappingStartEvent && ((NodeEvent) value).getAnchor() == null) {
+                int size = output.size();
+                copy(key, events);
+                output.add(value);
+                readSection(path);
+                if (output.size() == size + 3) output.subList(size, output.size()).clear();
+            } else if (match != Match.NONE) {
+                copy(key, events);
+                copy(value, events);
+            } else {
+                skip(key, false);
+                skip(value, false);
+            }
+        }
+
+        output.add(key);
+    }
+
+    private boolean isMerge(Event event) {
+        if (!(event instanceof ScalarEvent)) return false;
+        ScalarEvent scalar = (ScalarEvent) event;
+        return scalar.getTag() == null && resolver.resolve(NodeId.scalar, scalar.getValue(), scalar.getImplicit().canOmitTagInPlainScalar()).equals(Tag.MERGE);
+    }
+
+    /**
+     * Keeps a node and everything in it. Aliases of skipped anchors are replaced with the anchored value.
+     * @param event The first event of the node
+     * @param source The events to read the rest of the node from
+     */
+    private void copy(Event event, Iterator<Event> source) {
+        if (event instanceof AliasEvent) {
+            String anchor = ((AliasEvent) event).getAnchor();
+            List<Event> value = skipped.get(anchor);
+            if (!anchors.contains(anchor) && value != null) {
+                Iterator<Event> replay = value.iterator();
+                copy(replay.next(), replay);
+            } else {
+                output.add(event);
+            }
+
+            return;
+        }
+
+        String anchor = ((NodeEvent) event).getAnchor();
+        if (anchor != null) anchors.add(anchor);
+
+        output.add(event);
+        if (event instanceof CollectionStartEvent) {
+            Event next;
+            while (!((next = source.next()) instanceof CollectionEndEvent)) copy(next, source);
+            output.add(next);
+        }
+    }
+
+    /**
+     * Skips a node and everything in it, remembering the events of anchored nodes
+     * @param event The first event of the node
+     * @param record If the events are needed for an anchored node containing this one
+     * @return The events of the node, or null if they weren't needed
+     */
+    private List<Event> skip(Event event, boolean record) {
+        String anchor = event instanceof AliasEvent ? null : ((NodeEvent) event).getAnchor();
+        List<Event> recorded = record || anchor != null ? new ArrayList<>() : null;
+        if (recorded != null) recorded.add(event);
+
+        if (event instanceof CollectionStartEvent) {
+            Event next;
+            while (!((next = events.next()) instanceof CollectionEndEvent)) {
+                List<Event> child = skip(next, recorded != null);
+                if (recorded != null) recorded.addAll(child);
+            }
+
+            if (recorded != null) recorded.add(next);
+        }
+
+        if (anchor != null) {
+            // A redefined anchor refers to this node from now on, even if it was kept before
+            anchors.remove(anchor);
+            skipped.put(anchor, recorded);
+        }
+
+        return recorded;
+    }
+
+    /**
+     * Writes the kept events as YAML
+     * @return The YAML of the kept events
+     * @throws IOException If the events couldn't be written
+     */
+    private String emit() throws IOException {
+        DumperOptions options = new DumperOptions();
+        options.setWidth(Integer.MAX_VALUE);
+        options.setAllowUnicode(true);
+
+        StringWriter writer = new StringWriter();
+        Emitter emitter = new Emitter(writer, options);
+        for (Event event : output) emitter.emit(event);
+        return writer.toString();
+    }
+}
@@ -0,0 +1,117 @@
+package com.uddernetworks.config;
+
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A flat index of every full path in a config to its value, so gets are a single lookup instead of walking each
+ * section of the path. Only the config's own values that aren't sections are indexed, and paths missing from the index
+ * should be looked up in the config itself.
+ * @author RubbaBoy
+ */
+class PathIndex {
+
+    private Map<String, Object> values = new ConcurrentHashMap<>();
+    private Set<String> bypassed = ConcurrentHashMap.newKeySet();
+    private char separator;
+
+    /**
+     * Creates an index of all of the values of a config
+     * @param root The config to index
+     */
+    PathIndex(ConfigurationSection root) {
+        this.separator = root.getRoot().options().pathSeparator();
+        put("", root);
+    }
+
+    /**
+     * Creates a copy of an index
+     * @param index The index to copy
+     */
+    PathIndex(PathIndex index) {
+        this.separator = index.separator;
+        this.values.putAll(index.values);
+        this.bypassed.addAll(index.bypassed);
+    }
+
+    /**
+     * Gets the value at a full path
+     * @param path The full path
+     * @return The value, or null if it's not indexed
+     */
+    Object get(String path) {
+        if (!bypassed.isEmpty() && isBypassed(path)) return null;
+        return values.get(path);
+    }
+
+    /**
+     * Checks if a path or any section containing it is bypassed. Only the top-most bypassed paths are kept, so this
+     * is a lookup per section of the path no matter how many sections have been bypassed.
+     * @param path The full path
+     * @return If indexed values shouldn't be used for the path
+     */
+    private boolean isBypassed(String path) {
+        if (bypassed.contains("")) return true;
+        for (int end = path.indexOf(separator); end != -1; end = path.indexOf(separator, end + 1)) {
+            if (bypassed.contains(path.substring(0, end))) return true;
+        }
+
+        return bypassed.contains(path);
+    }
+
+    /**
+     * Stops indexed values from being used for a path and everything under it, such as for a section that may be
+     * changed without the index knowing
+     * @param path The full path, or an empty path for the whole config
+     */
+    void bypass(String path) {
+        if (isBypassed(path)) return;
+
+        // Paths under this one are covered by it from now on
+        String prefix = path + separator;
+        bypassed.removeIf(bypassedPath -> path.isEmpty() || bypassedPath.startsWith(prefix));
+        bypassed.add(path);
+    }
+
+    /**
+     * Removes the indexed values a change to the given path will replace. Should be ran before the change is made.
+     * @param root The config about to be changed
+     * @param path The full path about to be changed
+     */
+    void remove(ConfigurationSection root, String path) {
+        Object old = root.get(path, null);
+        if (old instanceof ConfigurationSection) {
+            for (String key : ((ConfigurationSection) old).getKeys(true)) values.remove(path + separator + key);
+        }
+
+        values.remove(path);
+
+        // A value being set below a non-section value turns it into a section
+        for (int i = path.lastIndexOf(separator); i != -1; i = path.lastIndexOf(separator, i - 1)) {
+            values.remove(path.substring(0, i));
+        }
+    }
+
+    /**
+     * Indexes the value set at the given path, including all values under it if it's a section
+     * @param path The full path
+     * @param value The value that was set
+     */
+    void put(String path, Object value) {
+        if (value instanceof ConfigurationSection) {
+            ConfigurationSection section = (ConfigurationSection) value;
+            String prefix = path.isEmpty() ? "" : path + separator;
+            // With copy defaults, the section's values include its defaults, which are left out of the index
+            boolean merged = section.getRoot().options().copyDefaults();
+            for (Map.Entry<String, Object> entry : section.getValues(true).entrySet()) {
+                Object own = merged ? section.get(entry.getKey(), null) : entry.getValue();
+                if (own != null && !(own instanceof ConfigurationSection)) values.put(prefix + entry.getKey(), own);
+            }
+        } else if (value != null) {
+            values.put(path, value);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.uddernetworks.config;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class AsyncSaveTest {
+
+    private File folder;
+    private File file;
+    private Config config;
+
+    @Before
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("confighelper-test").toFile();
+        file = new File(folder, "async.yml");
+        Files.write(file.toPath(), "a: 1\n".getBytes(StandardCharsets.UTF_8));
+
+        config = new Config("async.yml", folder);
+        config.getOptions().enableAutoSave(true).enableAsyncSave(true).setSaveInterval(50);
+        config.initialize(this);
+    }
+
+    @After
+    public void tearDown() {
+        config.close();
+        ConfigTestFiles.delete(folder);
+    }
+
+    @Test
+    public void setsAreSavedOnceInTheBackground() throws IOException, InterruptedException {
+        for (int i = 2; i <= 10; i++) config.set("a", i);
+        assertTrue(config.isDirty());
+        assertEquals("a: 1\n", read());
+
+        long end = System.currentTimeMillis() + 10000;
+        while (config.getMetrics().getSaves() == 0 && System.currentTimeMillis() < end) Thread.sleep(10);
+
+        assertFalse(config.isDirty());
+        assertEquals("a: 10\n", read());
+        assertEquals(1, config.getMetrics().getSaves());
+    }
+
+    @Test
+    public void flushSavesRightAway() throws IOException {
+        config.set("a", 2);
+        config.flush();
+
+        assertFalse(config.isDirty());
+        assertEquals("a: 2\n", read());
+    }
+
+    @Test
+    public void closeSavesWaitingChanges() throws IOException {
+        config.set("a", 3);
+        config.close();
+
+        assertEquals("a: 3\n", read());
+    }
+
+    private String read() throws IOException {
+        return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+    }
+}
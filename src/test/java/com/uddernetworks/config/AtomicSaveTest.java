@@ -0,0 +1,91 @@
+package com.uddernetworks.config;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+
+import static org.junit.Assert.assertEquals;
+
+public class AtomicSaveTest {
+
+    private File folder;
+    private Path file;
+
+    @Before
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("confighelper-test").toFile();
+        file = new File(folder, "atomic.yml").toPath();
+    }
+
+    @After
+    public void tearDown() {
+        ConfigTestFiles.delete(folder);
+    }
+
+    @Test
+    public void createsMissingFiles() throws IOException {
+        Config.writeAtomically(file, bytes("a: 1\n"), false);
+
+        assertEquals("a: 1\n", read());
+        assertEquals(1, folder.list().length);
+    }
+
+    @Test
+    public void replacesFilesKeepingTheirPermissions() throws IOException {
+        Files.write(file, bytes("a: 1\n"));
+        if (!supportsPosix()) return;
+        Files.setPosixFilePermissions(file, PosixFilePermissions.fromString("rw-------"));
+
+        Config.writeAtomically(file, bytes("a: 2\n"), true);
+
+        assertEquals("a: 2\n", read());
+        assertEquals("rw-------", PosixFilePermissions.toString(Files.getPosixFilePermissions(file)));
+    }
+
+    @Test
+    public void failedWritesLeaveNoTemporaryFiles() throws IOException {
+        Files.createDirectory(file);
+        Files.write(file.resolve("child"), bytes("a: 1\n"));
+
+        try {
+            Config.writeAtomically(file, bytes("a: 2\n"), false);
+        } catch (IOException ignored) {
+        }
+
+        assertEquals(1, folder.list().length);
+    }
+
+    @Test
+    public void savesLeaveOnlyTheConfig() throws IOException {
+        Files.write(file, bytes("a: 1\n"));
+        Config config = new Config("atomic.yml", folder);
+        config.getOptions().enableFsync(true);
+        config.initialize(this);
+
+        config.set("a", 2);
+        config.saveConfig();
+        config.close();
+
+        assertEquals("a: 2\n", read());
+        assertEquals(1, folder.list().length);
+    }
+
+    private boolean supportsPosix() {
+        return file.getFileSystem().supportedFileAttributeViews().contains("posix");
+    }
+
+    private static byte[] bytes(String contents) {
+        return contents.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private String read() throws IOException {
+        return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,92 @@
+package com.uddernetworks.config;
+
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class BinaryCacheTest {
+
+    private static final String CONTENTS = "a: 1\nb:\n  c: x\n  d: [1, 2.5, true]\nbig: 10000000000\n";
+
+    private File folder;
+    private File file;
+    private long hash;
+
+    @Before
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("confighelper-test").toFile();
+        file = new File(folder, "cached.yml");
+        Files.write(file.toPath(), CONTENTS.getBytes(StandardCharsets.UTF_8));
+        hash = Config.hash(Files.readAllBytes(file.toPath()));
+    }
+
+    @After
+    public void tearDown() {
+        ConfigTestFiles.delete(folder);
+    }
+
+    @Test
+    public void readsWrittenTrees() throws Exception {
+        BinaryCache.write(file, hash, load());
+        YamlConfiguration cached = BinaryCache.read(file, hash);
+
+        assertEquals(1, cached.get("a"));
+        assertEquals("x", cached.get("b.c"));
+        assertEquals(Arrays.asList(1, 2.5, true), cached.get("b.d"));
+        assertEquals(10000000000L, cached.get("big"));
+    }
+
+    @Test
+    public void outdatedSidecarsAreIgnored() throws Exception {
+        BinaryCache.write(file, hash, load());
+
+        assertNull(BinaryCache.read(file, hash + 1));
+    }
+
+    @Test
+    public void damagedSidecarsAreIgnored() throws Exception {
+        BinaryCache.write(file, hash, load());
+        // The length of the first key, after the header and the size of the root section
+        try (RandomAccessFile sidecar = new RandomAccessFile(BinaryCache.getFile(file), "rw")) {
+            sidecar.seek(34);
+            sidecar.writeInt(-1);
+        }
+
+        assertNull(BinaryCache.read(file, hash));
+    }
+
+    @Test
+    public void configsLoadFromDamagedSidecars() throws IOException {
+        Config config = new Config("cached.yml", folder);
+        config.getOptions().enableBinaryCache(true);
+        config.initialize(this);
+        assertTrue(BinaryCache.getFile(file).isFile());
+
+        try (RandomAccessFile sidecar = new RandomAccessFile(BinaryCache.getFile(file), "rw")) {
+            sidecar.seek(34);
+            sidecar.writeInt(Integer.MAX_VALUE);
+        }
+
+        config.reloadConfig();
+        assertEquals("x", config.getString("b.c"));
+        config.close();
+    }
+
+    private YamlConfiguration load() throws Exception {
+        YamlConfiguration configuration = new YamlConfiguration();
+        configuration.loadFromString(CONTENTS);
+        return configuration;
+    }
+}
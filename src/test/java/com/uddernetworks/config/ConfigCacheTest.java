@@ -0,0 +1,97 @@
+package com.uddernetworks.config;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ConfigCacheTest {
+
+    private File folder;
+    private ConfigCache cache;
+
+    @Before
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("confighelper-test").toFile();
+        cache = new ConfigCache(this, folder, 2, new ConfigOptions().enableAsyncSave(true));
+    }
+
+    @After
+    public void tearDown() {
+        cache.close();
+        ConfigTestFiles.delete(folder);
+    }
+
+    @Test
+    public void loadedConfigsAreReused() {
+        assertSame(cache.get("a.yml"), cache.get("a.yml"));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void leastRecentlyUsedConfigIsEvictedAndSaved() throws IOException {
+        cache.get("a.yml").set("value", 1);
+        cache.get("b.yml");
+        cache.get("a.yml");
+        cache.get("c.yml");
+
+        assertNull(cache.getIfLoaded("b.yml"));
+        assertEquals(2, cache.size());
+
+        cache.invalidate("a.yml");
+        assertEquals("value: 1\n", new String(Files.readAllBytes(new File(folder, "a.yml").toPath()), StandardCharsets.UTF_8));
+        assertEquals(1, cache.get("a.yml").getInt("value"));
+    }
+
+    @Test
+    public void shrinkingEvictsConfigs() {
+        cache.get("a.yml");
+        cache.get("b.yml");
+        cache.setMaxSize(1);
+
+        assertEquals(1, cache.size());
+        assertNull(cache.getIfLoaded("a.yml"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void maxSizeMustBePositive() {
+        cache.setMaxSize(0);
+    }
+
+    @Test
+    public void concurrentGetsLoadOnce() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Config>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return cache.get("shared.yml");
+                }));
+            }
+
+            start.countDown();
+            Config config = futures.get(0).get();
+            for (Future<Config> future : futures) assertSame(config, future.get());
+            assertTrue(config.getConfigFile().exists());
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
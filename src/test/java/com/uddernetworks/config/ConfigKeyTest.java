@@ -0,0 +1,78 @@
+package com.uddernetworks.config;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class ConfigKeyTest {
+
+    private File folder;
+    private Config config;
+
+    @Before
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("confighelper-test").toFile();
+        write("a: 1\nb:\n  c: x\n");
+
+        config = new Config("keys.yml", folder);
+        config.initialize(this);
+    }
+
+    @After
+    public void tearDown() {
+        config.close();
+        ConfigTestFiles.delete(folder);
+    }
+
+    @Test
+    public void convertsValues() {
+        assertEquals(Long.valueOf(1), config.key("a", long.class).get());
+        assertEquals(1.0, config.key("a", double.class).getAsDouble(), 0);
+        assertEquals("1", config.key("a", String.class).get());
+        assertEquals(Integer.valueOf(5), config.key("b.c", Integer.class, 5).get());
+        assertEquals(Integer.valueOf(7), config.key("missing", Integer.class, 7).get());
+    }
+
+    @Test
+    public void cachesUntilChanged() {
+        ConfigKey<String> key = config.key("b.c", String.class);
+        assertSame(key.get(), key.get());
+
+        config.set("b.c", "y");
+        assertEquals("y", key.get());
+    }
+
+    @Test
+    public void seesReloads() throws IOException {
+        ConfigKey<Integer> key = config.key("a", int.class);
+        assertEquals(1, key.getAsInt());
+
+        write("a: 2\n");
+        config.reloadConfig();
+        assertEquals(2, key.getAsInt());
+    }
+
+    @Test
+    public void seesChangesMadeThroughSections() {
+        ConfigKey<String> key = config.key("b.c", String.class);
+        assertEquals("x", key.get());
+
+        config.getConfigurationSection("b").set("c", "z");
+        assertEquals("z", key.get());
+
+        config.getConfigurationSection("b").set("c", "w");
+        assertEquals("w", key.get());
+    }
+
+    private void write(String contents) throws IOException {
+        Files.write(new File(folder, "keys.yml").toPath(), contents.getBytes(StandardCharsets.UTF_8));
+    }
+}
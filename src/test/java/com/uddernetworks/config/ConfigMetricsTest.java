@@ -0,0 +1,73 @@
+package com.uddernetworks.config;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ConfigMetricsTest {
+
+    private File folder;
+    private Config config;
+
+    @Before
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("confighelper-test").toFile();
+        Files.write(new File(folder, "metrics.yml").toPath(), "a: 1\n".getBytes(StandardCharsets.UTF_8));
+
+        config = new Config("metrics.yml", folder);
+        config.initialize(this);
+    }
+
+    @After
+    public void tearDown() {
+        config.close();
+        ConfigTestFiles.delete(folder);
+    }
+
+    @Test
+    public void countsWork() {
+        config.get("a");
+        config.get("a");
+        config.reloadConfig();
+        config.set("a", 2);
+        config.saveConfig();
+        config.saveConfig();
+
+        ConfigMetrics metrics = config.getMetrics();
+        assertEquals(1, metrics.getLoads());
+        assertEquals(2, metrics.getParses());
+        assertEquals(1, metrics.getReloads());
+        assertEquals(2, metrics.getReads());
+        assertEquals(1, metrics.getSaves());
+        assertEquals(1, metrics.getSkippedSaves());
+        assertEquals("a: 2\n".length(), metrics.getSavedBytes());
+        assertTrue(metrics.getLoadTime() > 0 && metrics.getParseTime() > 0 && metrics.getSaveTime() > 0);
+    }
+
+    @Test
+    public void globalMetricsIncludeEveryConfig() {
+        long reads = ConfigMetrics.getGlobal().getReads();
+        config.get("a");
+
+        assertEquals(reads + 1, ConfigMetrics.getGlobal().getReads());
+    }
+
+    @Test
+    public void resetOnlyResetsTheConfig() {
+        config.get("a");
+        long reads = ConfigMetrics.getGlobal().getReads();
+        config.getMetrics().reset();
+
+        assertEquals(0, config.getMetrics().getReads());
+        assertEquals(0, config.getMetrics().getLoads());
+        assertEquals(reads, ConfigMetrics.getGlobal().getReads());
+    }
+}
@@ -0,0 +1,126 @@
+package com.uddernetworks.config;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class ConfigReloadTest {
+
+    private File folder;
+    private Config config;
+    private List<String> changes = new ArrayList<>();
+
+    @Before
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("confighelper-test").toFile();
+        write("a: 1\nb:\n  c: x\n  d: [1]\ngone: 1\n");
+
+        config = new Config("reload.yml", folder);
+        config.initialize(this);
+        config.addChangeListener((path, oldValue, newValue) -> changes.add(path + ": " + oldValue + " -> " + newValue));
+    }
+
+    @After
+    public void tearDown() {
+        config.close();
+        ConfigTestFiles.delete(folder);
+    }
+
+    @Test
+    public void reloadFiresChangedPaths() throws IOException {
+        write("a: 2\nb:\n  c: x\n  d: [1, 2]\nnew: 3\n");
+        config.reloadConfig();
+
+        assertEquals(Arrays.asList("a: 1 -> 2", "b.d: [1] -> [1, 2]", "new: null -> 3", "gone: 1 -> null"), changes);
+        assertEquals(2, config.getInt("a"));
+        assertEquals(3, config.getInt("new"));
+    }
+
+    @Test
+    public void reloadOfUnchangedFileFiresNothing() {
+        config.reloadConfig();
+
+        assertEquals(Collections.emptyList(), changes);
+        assertEquals(1, config.getInt("a"));
+    }
+
+    @Test
+    public void setFiresOnlyActualChanges() {
+        config.set("a", 5);
+        config.set("a", 5);
+        config.set("b.c", "y");
+
+        assertEquals(Arrays.asList("a: 1 -> 5", "b.c: x -> y"), changes);
+    }
+
+    @Test
+    public void reloadUpdatesOnlyChangedFields() throws IOException {
+        SyncedFields fields = new SyncedFields();
+        Config.registerAnnotatedClass(fields);
+        try {
+            config.updateAllFields();
+            assertEquals(1, fields.a);
+            assertEquals("x", fields.c);
+
+            fields.c = "manual";
+            write("a: 2\nb:\n  c: x\n  d: [1]\ngone: 1\n");
+            config.reloadConfig();
+
+            assertEquals(2, fields.a);
+            assertEquals("manual", fields.c);
+        } finally {
+            Config.unregisterAnnotatedClass(fields);
+        }
+    }
+
+    @Test
+    public void changesInSectionsUpdateSectionFields() throws IOException {
+        SectionFields fields = new SectionFields();
+        Config.registerAnnotatedClass(fields);
+        try {
+            config.updateAllFields();
+            assertEquals("x", fields.b.getString("c"));
+
+            write("a: 1\nb:\n  c: y\n  d: [1]\ngone: 1\n");
+            config.reloadConfig();
+            assertEquals("y", fields.b.getString("c"));
+
+            fields.b = null;
+            config.set("b.d", null);
+            assertEquals(Collections.singleton("c"), fields.b.getKeys(false));
+        } finally {
+            Config.unregisterAnnotatedClass(fields);
+        }
+    }
+
+    private void write(String contents) throws IOException {
+        Files.write(new File(folder, "reload.yml").toPath(), contents.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static class SyncedFields {
+
+        @ConfigSync(config = "reload.yml", path = "a")
+        public int a;
+
+        @ConfigSync(config = "reload.yml", path = "b.c")
+        public String c;
+    }
+
+    public static class SectionFields {
+
+        @ConfigSync(config = "reload.yml", path = "b")
+        public ConfigurationSection b;
+    }
+}
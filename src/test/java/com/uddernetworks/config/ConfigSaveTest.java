@@ -0,0 +1,78 @@
+package com.uddernetworks.config;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.junit.Assert.assertEquals;
+
+public class ConfigSaveTest {
+
+    private File folder;
+    private File file;
+    private Config config;
+
+    @Before
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("confighelper-test").toFile();
+        file = new File(folder, "save.yml");
+        write("a: 1\n");
+
+        config = new Config("save.yml", folder);
+        config.initialize(this);
+    }
+
+    @After
+    public void tearDown() {
+        config.close();
+        ConfigTestFiles.delete(folder);
+    }
+
+    @Test
+    public void unchangedSaveIsSkipped() throws IOException {
+        config.set("a", 2);
+        config.saveConfig();
+        config.saveConfig();
+
+        assertEquals(1, config.getMetrics().getSaves());
+        assertEquals(1, config.getMetrics().getSkippedSaves());
+        assertEquals("a: 2\n", read());
+    }
+
+    @Test
+    public void firstSaveAfterLoadIsWritten() throws IOException {
+        write("a: 1\n\n# Comment\n");
+        config.reloadConfig();
+        config.saveConfig();
+
+        assertEquals(1, config.getMetrics().getSaves());
+        assertEquals("a: 1\n", read());
+    }
+
+    @Test
+    public void saveAfterReloadIsWrittenWithSameContents() throws IOException {
+        config.set("a", 2);
+        config.saveConfig();
+
+        write("a: 3\n");
+        config.reloadConfig();
+        config.set("a", 2);
+        config.saveConfig();
+
+        assertEquals(2, config.getMetrics().getSaves());
+        assertEquals("a: 2\n", read());
+    }
+
+    private void write(String contents) throws IOException {
+        Files.write(file.toPath(), contents.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String read() throws IOException {
+        return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+    }
+}
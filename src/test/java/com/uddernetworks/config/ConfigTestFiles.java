@@ -0,0 +1,24 @@
+package com.uddernetworks.config;
+
+import java.io.File;
+
+/**
+ * Cleans up the temporary folders configs are created in by tests
+ */
+class ConfigTestFiles {
+
+    private ConfigTestFiles() {}
+
+    /**
+     * Deletes a file, or a folder and everything in it
+     * @param file The file or folder to delete
+     */
+    static void delete(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) delete(child);
+        }
+
+        file.delete();
+    }
+}
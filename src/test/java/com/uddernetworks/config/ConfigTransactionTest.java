@@ -0,0 +1,128 @@
+package com.uddernetworks.config;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+public class ConfigTransactionTest {
+
+    private File folder;
+    private Config config;
+    private List<String> changes = new ArrayList<>();
+
+    @Before
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("confighelper-test").toFile();
+        Files.write(new File(folder, "transaction.yml").toPath(), "a: 1\nb:\n  c: x\n".getBytes(StandardCharsets.UTF_8));
+
+        config = new Config("transaction.yml", folder);
+        config.initialize(this);
+        config.addChangeListener((path, oldValue, newValue) -> changes.add(path + ": " + oldValue + " -> " + newValue));
+    }
+
+    @After
+    public void tearDown() {
+        config.close();
+        ConfigTestFiles.delete(folder);
+    }
+
+    @Test
+    public void batchMakesAllChanges() {
+        config.batch(transaction -> {
+            transaction.set("a", 2);
+            transaction.set("b.c", "y");
+            transaction.createSection("d").set("e", 3);
+        });
+
+        assertEquals(2, config.getInt("a"));
+        assertEquals("y", config.getString("b.c"));
+        assertEquals(3, config.getInt("d.e"));
+    }
+
+    @Test
+    public void transactionReadsItsOwnChanges() {
+        List<Object> read = new ArrayList<>();
+        config.batch(transaction -> {
+            transaction.set("a", 2);
+            read.add(transaction.get("a"));
+            read.add(transaction.get("b.c"));
+            read.add(config.getInt("a"));
+        });
+
+        assertEquals(Arrays.asList(2, "x", 1), read);
+    }
+
+    @Test
+    public void rollbackDropsAllChanges() {
+        RuntimeException failure = new RuntimeException();
+        try {
+            config.batch(transaction -> {
+                transaction.set("a", 2);
+                transaction.set("b", null);
+                throw failure;
+            }, true);
+            fail();
+        } catch (RuntimeException e) {
+            assertSame(failure, e);
+        }
+
+        assertEquals(1, config.getInt("a"));
+        assertEquals("x", config.getString("b.c"));
+        assertEquals(Collections.emptyList(), changes);
+    }
+
+    @Test
+    public void failedBatchKeepsChangesWithoutRollback() {
+        try {
+            config.batch(transaction -> {
+                transaction.set("a", 2);
+                throw new RuntimeException();
+            });
+            fail();
+        } catch (RuntimeException ignored) {
+        }
+
+        assertEquals(2, config.getInt("a"));
+        assertEquals(Collections.singletonList("a: 1 -> 2"), changes);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void transactionIsClosedAfterBatch() {
+        ConfigTransaction[] leaked = new ConfigTransaction[1];
+        config.batch(transaction -> leaked[0] = transaction);
+
+        leaked[0].set("a", 2);
+    }
+
+    @Test
+    public void batchDoesNotBlockOtherWriters() {
+        config.batch(transaction -> {
+            transaction.set("a", 2);
+            Thread writer = new Thread(() -> config.set("other", 3));
+            writer.start();
+            try {
+                writer.join(5000);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            assertFalse(writer.isAlive());
+        });
+
+        assertEquals(2, config.getInt("a"));
+        assertEquals(3, config.getInt("other"));
+    }
+}
@@ -0,0 +1,66 @@
+package com.uddernetworks.config;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class ConfigWatcherTest {
+
+    private File folder;
+    private Config config;
+
+    @Before
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("confighelper-test").toFile();
+        write("a: 1\n");
+
+        config = new Config("watched.yml", folder);
+        config.getOptions().enableAutoReload(true).enableWatchReload(true).setWatchDelay(10);
+        config.initialize(this);
+    }
+
+    @After
+    public void tearDown() {
+        config.close();
+        ConfigWatcher.shutdown();
+        ConfigTestFiles.delete(folder);
+    }
+
+    @Test
+    public void changedFilesAreReloaded() throws IOException, InterruptedException {
+        write("a: 22\n");
+
+        long end = System.currentTimeMillis() + 10000;
+        while (config.getInt("a") != 22 && System.currentTimeMillis() < end) Thread.sleep(10);
+        assertEquals(22, config.getInt("a"));
+    }
+
+    @Test
+    public void shutdownStopsWatchingAndItsThreads() throws IOException, InterruptedException {
+        ConfigWatcher.shutdown();
+
+        long end = System.currentTimeMillis() + 10000;
+        while (isRunning("ConfigHelper") && System.currentTimeMillis() < end) Thread.sleep(10);
+        assertFalse(isRunning("ConfigHelper"));
+
+        // The config goes back to reloading on gets
+        write("a: 333\n");
+        assertEquals(333, config.getInt("a"));
+    }
+
+    private static boolean isRunning(String name) {
+        return Thread.getAllStackTraces().keySet().stream().anyMatch(thread -> thread.getName().startsWith(name));
+    }
+
+    private void write(String contents) throws IOException {
+        Files.write(new File(folder, "watched.yml").toPath(), contents.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,71 @@
+package com.uddernetworks.config;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.junit.Assert.assertEquals;
+
+public class DeltaSaveTest {
+
+    private File folder;
+    private File file;
+
+    @Before
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("confighelper-test").toFile();
+        file = new File(folder, "delta.yml");
+    }
+
+    @After
+    public void tearDown() {
+        ConfigTestFiles.delete(folder);
+    }
+
+    @Test
+    public void newFilesStartEmpty() throws IOException {
+        Config config = load();
+
+        assertEquals("", read());
+        assertEquals(1, config.getInt("a"));
+        assertEquals("x", config.getString("b.c"));
+        config.close();
+    }
+
+    @Test
+    public void onlyDifferingValuesAreSaved() throws IOException {
+        Config config = load();
+        config.set("b.d", 3);
+        config.saveConfig();
+        config.close();
+
+        assertEquals("b:\n  d: 3\n", read());
+    }
+
+    @Test
+    public void valuesSetBackToTheirDefaultAreRemoved() throws IOException {
+        Files.write(file.toPath(), "a: 5\nb:\n  c: y\n".getBytes(StandardCharsets.UTF_8));
+        Config config = load();
+        config.set("b.c", "x");
+        config.saveConfig();
+        config.close();
+
+        assertEquals("a: 5\n", read());
+    }
+
+    private Config load() {
+        Config config = new Config("delta.yml", folder);
+        config.getOptions().setDefaults("shared-defaults.yml").enableDeltaSave(true);
+        config.initialize(this);
+        return config;
+    }
+
+    private String read() throws IOException {
+        return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+    }
+}
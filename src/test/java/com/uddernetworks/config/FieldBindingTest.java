@@ -0,0 +1,103 @@
+package com.uddernetworks.config;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class FieldBindingTest {
+
+    @Test
+    public void setsStaticFields() {
+        Fields fields = new Fields();
+        binding("static").set(fields, 5);
+
+        assertEquals(5, Fields.staticValue);
+    }
+
+    @Test
+    public void registersClassesWithStaticFields() {
+        Fields fields = new Fields();
+        Config.registerAnnotatedClass(fields);
+        Config.unregisterAnnotatedClass(fields);
+    }
+
+    @Test
+    public void convertsNumbersToPrimitiveFields() {
+        Fields fields = new Fields();
+        binding("long").set(fields, 7);
+        binding("double").set(fields, 2);
+        binding("byte").set(fields, 300L);
+
+        assertEquals(7L, fields.longValue);
+        assertEquals(2.0, fields.doubleValue, 0);
+        assertEquals((byte) 300, fields.byteValue);
+    }
+
+    @Test
+    public void convertsNumbersToBoxedFields() {
+        Fields fields = new Fields();
+        binding("boxed").set(fields, 1.9);
+
+        assertEquals(Integer.valueOf(1), fields.boxed);
+    }
+
+    @Test
+    public void convertsValuesToStrings() {
+        Fields fields = new Fields();
+        binding("string").set(fields, 12);
+        binding("strings").set(fields, Arrays.asList(1, true, "x"));
+
+        assertEquals("12", fields.string);
+        assertEquals(Arrays.asList("1", "true", "x"), fields.strings);
+    }
+
+    @Test
+    public void leavesFieldsOfUnconvertibleValuesUnchanged() {
+        Fields fields = new Fields();
+        fields.intValue = 3;
+        binding("int").set(fields, "three");
+        binding("boxed").set(fields, "three");
+
+        assertEquals(3, fields.intValue);
+        assertNull(fields.boxed);
+    }
+
+    private static FieldBinding binding(String path) {
+        for (FieldBinding binding : FieldBinding.forClass(Fields.class)) {
+            if (binding.getPath().equals(path)) return binding;
+        }
+
+        throw new IllegalArgumentException(path);
+    }
+
+    public static class Fields {
+
+        @ConfigSync(config = "bindings.yml", path = "static")
+        static int staticValue;
+
+        @ConfigSync(config = "bindings.yml", path = "int")
+        int intValue;
+
+        @ConfigSync(config = "bindings.yml", path = "long")
+        long longValue;
+
+        @ConfigSync(config = "bindings.yml", path = "double")
+        double doubleValue;
+
+        @ConfigSync(config = "bindings.yml", path = "byte")
+        byte byteValue;
+
+        @ConfigSync(config = "bindings.yml", path = "boxed")
+        Integer boxed;
+
+        @ConfigSync(config = "bindings.yml", path = "string")
+        String string;
+
+        @ConfigSync(config = "bindings.yml", path = "strings")
+        List<String> strings;
+    }
+}
@@ -0,0 +1,105 @@
+package com.uddernetworks.config;
+
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+public class PartialLoadTest {
+
+    private File folder;
+    private File file;
+
+    @Before
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("confighelper-test").toFile();
+        file = new File(folder, "partial.yml");
+    }
+
+    @After
+    public void tearDown() {
+        ConfigTestFiles.delete(folder);
+    }
+
+    @Test
+    public void loadsOnlyRequestedPaths() throws IOException {
+        write("a: 1\nb:\n  c: x\n  d:\n    e: 2\n  f: [1, 2]\ng: 3\n");
+        YamlConfiguration loaded = PartialLoader.load(file, Arrays.asList("b.d", "g"));
+
+        assertEquals(new LinkedHashSet<>(Arrays.asList("b", "b.d", "b.d.e", "g")), loaded.getKeys(true));
+        assertEquals(2, loaded.get("b.d.e"));
+        assertEquals(3, loaded.get("g"));
+    }
+
+    @Test
+    public void resolvesAliasesOfSkippedAnchors() throws IOException {
+        write("base: &base\n  x: 1\n  y: 2\nlist: &list [1, 2]\nused:\n  <<: *base\n  y: 3\n  items: *list\n");
+        YamlConfiguration loaded = PartialLoader.load(file, Collections.singleton("used"));
+
+        assertNull(loaded.get("base"));
+        assertEquals(1, loaded.get("used.x"));
+        assertEquals(3, loaded.get("used.y"));
+        assertEquals(Arrays.asList(1, 2), loaded.get("used.items"));
+    }
+
+    @Test
+    public void invalidFilesAreLoadedLikeWithoutPartialLoading() throws IOException {
+        write("a: 1\nbad: [1, 2\n");
+        YamlConfiguration loaded = PartialLoader.load(file, Collections.singleton("a"));
+
+        assertFalse(loaded.contains("a"));
+    }
+
+    @Test
+    public void configsLoadTheirPathsAndSyncedFields() throws IOException {
+        write("reload:\n  b:\n    c: x\n  other: 1\nload: 2\nskipped: 3\n");
+        Config config = new Config("partial.yml", folder);
+        config.getOptions().enablePartialLoad(true).addLoadPaths("load");
+        config.initialize(this);
+        SyncedFields fields = new SyncedFields();
+        Config.registerAnnotatedClass(fields);
+
+        try {
+            config.reloadConfig();
+
+            assertEquals("x", fields.c);
+            assertEquals(2, config.getInt("load"));
+            assertNull(config.get("skipped"));
+            assertNull(config.get("reload.other"));
+
+            // Partially loaded configs are never saved, so the skipped values aren't lost
+            config.set("load", 4);
+            config.saveConfig();
+            assertEquals("reload:\n  b:\n    c: x\n  other: 1\nload: 2\nskipped: 3\n", read());
+        } finally {
+            Config.unregisterAnnotatedClass(fields);
+            config.close();
+        }
+    }
+
+    private void write(String contents) throws IOException {
+        Files.write(file.toPath(), contents.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String read() throws IOException {
+        return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+    }
+
+    public static class SyncedFields {
+
+        @ConfigSync(config = "partial.yml", path = "reload.b.c")
+        public String c;
+    }
+}
@@ -0,0 +1,80 @@
+package com.uddernetworks.config;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class PathIndexTest {
+
+    private File folder;
+    private Config config;
+
+    @Before
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("confighelper-test").toFile();
+        Files.write(new File(folder, "index.yml").toPath(), "a: 1\nb:\n  c: x\n  d:\n    e: 2\n".getBytes(StandardCharsets.UTF_8));
+
+        config = new Config("index.yml", folder);
+        config.getOptions().enablePathIndex(true);
+        config.initialize(this);
+    }
+
+    @After
+    public void tearDown() {
+        config.close();
+        ConfigTestFiles.delete(folder);
+    }
+
+    @Test
+    public void getsIndexedValues() {
+        assertEquals(1, config.getInt("a"));
+        assertEquals("x", config.getString("b.c"));
+        assertEquals(2, config.getInt("b.d.e"));
+    }
+
+    @Test
+    public void setsUpdateTheIndex() {
+        config.set("b.d", 3);
+        config.set("a.f", "y");
+
+        assertEquals(3, config.getInt("b.d"));
+        assertNull(config.get("b.d.e"));
+        assertTrue(config.isConfigurationSection("a"));
+        assertEquals("y", config.getString("a.f"));
+    }
+
+    @Test
+    public void changesToGottenSectionsAreSeen() {
+        config.getValues(true);
+        config.getConfigurationSection("b.d").set("e", 5);
+        config.getConfigurationSection("b").set("c", "z");
+
+        assertEquals(5, config.getInt("b.d.e"));
+        assertEquals("z", config.getString("b.c"));
+        assertEquals(1, config.getInt("a"));
+    }
+
+    @Test
+    public void bypassingKeepsOnlyTopMostPaths() {
+        PathIndex index = new PathIndex(config.getCurrentConfiguration());
+        index.bypass("b.d");
+        index.bypass("b");
+        index.bypass("b.c");
+
+        assertNull(index.get("b.c"));
+        assertNull(index.get("b.d.e"));
+        assertEquals(1, index.get("a"));
+
+        index.bypass("");
+        assertNull(index.get("a"));
+    }
+}
@@ -0,0 +1,69 @@
+package com.uddernetworks.config;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class SharedDefaultsTest {
+
+    private File folder;
+    private Config config;
+
+    @Before
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("confighelper-test").toFile();
+        Files.write(new File(folder, "shared.yml").toPath(), "a: 5\nb:\n  c: x\n  d: 2\n".getBytes(StandardCharsets.UTF_8));
+
+        config = new Config("shared.yml", folder);
+        config.getOptions().setDefaults("shared-defaults.yml").enableSharedDefaults(true);
+        config.initialize(this);
+    }
+
+    @After
+    public void tearDown() {
+        config.close();
+        ConfigTestFiles.delete(folder);
+    }
+
+    @Test
+    public void onlyDifferingValuesAreKept() {
+        assertEquals(5, config.getCurrentConfiguration().get("a", null));
+        assertNull(config.getCurrentConfiguration().get("b.c", null));
+        assertNull(config.getCurrentConfiguration().get("b.d", null));
+
+        assertEquals(5, config.getInt("a"));
+        assertEquals("x", config.getString("b.c"));
+        assertEquals(2, config.getInt("b.d"));
+    }
+
+    @Test
+    public void sectionsLeftEmptyAreKept() {
+        assertTrue(config.getCurrentConfiguration().get("b", null) instanceof ConfigurationSection);
+    }
+
+    @Test
+    public void readsDontChangeTheConfig() {
+        Object section = config.getCurrentConfiguration().get("b", null);
+        config.getConfigurationSection("b");
+        config.getString("b.c");
+
+        assertSame(section, config.getCurrentConfiguration().get("b", null));
+        assertNull(config.getCurrentConfiguration().get("b.c", null));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void defaultsCantBeChanged() {
+        config.getCurrentConfiguration().getDefaults().set("a", 2);
+    }
+}
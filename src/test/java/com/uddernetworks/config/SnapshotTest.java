@@ -0,0 +1,96 @@
+package com.uddernetworks.config;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class SnapshotTest {
+
+    private File folder;
+    private Config config;
+
+    @Before
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("confighelper-test").toFile();
+        Files.write(new File(folder, "snapshot.yml").toPath(), "a: 0\nb:\n  c: 0\n".getBytes(StandardCharsets.UTF_8));
+
+        config = new Config("snapshot.yml", folder);
+        config.getOptions().enableSnapshots(true);
+        config.initialize(this);
+    }
+
+    @After
+    public void tearDown() {
+        config.close();
+        ConfigTestFiles.delete(folder);
+    }
+
+    @Test
+    public void changesReplaceTheConfiguration() {
+        YamlConfiguration before = config.getCurrentConfiguration();
+        config.set("a", 1);
+
+        assertNotSame(before, config.getCurrentConfiguration());
+        assertEquals(0, before.get("a"));
+        assertEquals(1, config.getInt("a"));
+    }
+
+    @Test
+    public void gottenSectionsKeepTheirValues() {
+        ConfigurationSection section = config.getConfigurationSection("b");
+        config.set("b.c", 1);
+
+        assertEquals(0, section.getInt("c"));
+        assertEquals(1, config.getInt("b.c"));
+    }
+
+    @Test
+    public void unchangedSetsKeepTheConfiguration() {
+        YamlConfiguration before = config.getCurrentConfiguration();
+        config.set("a", 0);
+
+        assertSame(before, config.getCurrentConfiguration());
+    }
+
+    @Test
+    public void readersNeverSeePartialBatches() throws InterruptedException {
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger mismatches = new AtomicInteger();
+        Thread reader = new Thread(() -> {
+            while (running.get()) {
+                YamlConfiguration configuration = config.getCurrentConfiguration();
+                if (configuration.getInt("a") != configuration.getInt("b.c")) mismatches.incrementAndGet();
+            }
+        });
+        reader.start();
+
+        try {
+            for (int i = 1; i <= 2000; i++) {
+                int value = i;
+                config.batch(transaction -> {
+                    transaction.set("a", value);
+                    transaction.set("b.c", value);
+                });
+            }
+        } finally {
+            running.set(false);
+            reader.join();
+        }
+
+        assertEquals(0, mismatches.get());
+        assertEquals(2000, config.getInt("b.c"));
+    }
+}